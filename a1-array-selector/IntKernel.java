@@ -0,0 +1,46 @@
+/**
+ * IntKernel.java. Describes the inner loops behind Selector.min,
+ * Selector.max, and Selector.range. Implementations may assume that the
+ * array has already been checked and is neither null nor empty, and must
+ * not change it.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public interface IntKernel {
+
+   /**
+    * Returns the minimum value in a.
+    */
+   int min(int[] a);
+
+   /**
+    * Returns the maximum value in a.
+    */
+   int max(int[] a);
+
+   /**
+    * Returns the number of values of a in [low..high], including
+    * duplicates.
+    */
+   int rangeCount(int[] a, int low, int high);
+
+   /**
+    * Copies the values of a in [low..high], including duplicates, into the
+    * front of out in the order they appear in a. The array out must have
+    * room for all of them.
+    */
+   void rangeInto(int[] a, int low, int high, int[] out);
+
+   /**
+    * Returns all the values of a in [low..high], including duplicates, in
+    * the order they appear in a.
+    */
+   default int[] range(int[] a, int low, int high) {
+      int[] range = new int[rangeCount(a, low, high)];
+      rangeInto(a, low, high, range);
+      return range;
+   }
+
+}
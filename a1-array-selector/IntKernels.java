@@ -0,0 +1,104 @@
+/**
+ * IntKernels.java. Chooses the IntKernel used by Selector. When the
+ * jdk.incubator.vector module is present and the VectorIntKernel class
+ * (built from the vector directory) is on the class path, its SIMD loops
+ * are used; otherwise the plain scalar loops below are used.
+ *
+ * To enable the vector kernel, compile and run with
+ * --add-modules jdk.incubator.vector, compiling vector/VectorIntKernel.java
+ * along with the other classes.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class IntKernels {
+
+   /** the kernel chosen when this class was loaded. */
+   private static final IntKernel KERNEL = load();
+
+   /**
+    * Can't instantiate this class.
+    */
+   private IntKernels() { }
+
+   /**
+    * Returns the fastest kernel available in this runtime.
+    */
+   public static IntKernel get() {
+      return KERNEL;
+   }
+
+   /**
+    * Returns the kernel made of plain scalar loops.
+    */
+   public static IntKernel scalar() {
+      return Scalar.INSTANCE;
+   }
+
+   /** Loads the vector kernel if its module and class can be found. */
+   private static IntKernel load() {
+      if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+         return Scalar.INSTANCE;
+      }
+      try {
+         Class<?> c = Class.forName("VectorIntKernel");
+         return (IntKernel) c.getDeclaredConstructor().newInstance();
+      }
+      catch (ReflectiveOperationException | LinkageError e) {
+         return Scalar.INSTANCE;
+      }
+   }
+
+   /**
+    * The scalar loops, one value at a time.
+    */
+   private static final class Scalar implements IntKernel {
+
+      static final Scalar INSTANCE = new Scalar();
+
+      @Override
+      public int min(int[] a) {
+         int minValue = a[0];
+         for (int i = 0; i < a.length; i++) {
+            if (a[i] < minValue) {
+               minValue = a[i];
+            }
+         }
+         return minValue;
+      }
+
+      @Override
+      public int max(int[] a) {
+         int maxValue = a[0];
+         for (int i = 0; i < a.length; i++) {
+            if (a[i] > maxValue) {
+               maxValue = a[i];
+            }
+         }
+         return maxValue;
+      }
+
+      @Override
+      public int rangeCount(int[] a, int low, int high) {
+         int numForArray = 0;
+         for (int i = 0; i < a.length; i++) {
+            if (a[i] >= low && a[i] <= high) {
+               numForArray++;
+            }
+         }
+         return numForArray;
+      }
+
+      @Override
+      public void rangeInto(int[] a, int low, int high, int[] out) {
+         int index = 0;
+         for (int i = 0; i < a.length; i++) {
+            if (a[i] >= low && a[i] <= high) {
+               out[index++] = a[i];
+            }
+         }
+      }
+   }
+
+}
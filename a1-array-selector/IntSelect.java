@@ -0,0 +1,414 @@
+import java.util.Arrays;
+
+/**
+ * IntSelect.java. Implements selection of the kth distinct value from an
+ * array of ints in expected linear time. Distinct values are gathered into a
+ * scratch buffer with an open-addressing hash table and then placed with
+ * introselect: quickselect with a median-of-medians fallback when the
+ * partitioning goes on for too long.
+ *
+ * An IntSelect owns a single scratch buffer that grows as needed and is
+ * reused from one call to the next, so holding on to an instance avoids
+ * allocation on repeated calls with arrays of similar length. An instance is
+ * not safe for use by more than one thread at a time.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class IntSelect {
+
+   /** Marks an empty slot in the hash table. */
+   private static final int EMPTY = Integer.MIN_VALUE;
+
+   /** Ranges at or below this size are finished with insertion sort. */
+   private static final int INSERTION_CUTOFF = 16;
+
+   /** kSmallest and kLargest use a bounded heap up to this k. */
+   private static final int SMALL_K = 16;
+
+   /**
+    * distinct hashes ranges up to this length; longer ranges are sorted
+    * instead, so the table never passes 2^27 ints and its size never
+    * overflows.
+    */
+   static final int HASH_LIMIT = 1 << 26;
+
+   /** scratch space: distinct values followed by the hash table. */
+   private int[] buf = new int[0];
+
+   /**
+    * Creates a selector with an empty scratch buffer.
+    */
+   public IntSelect() { }
+
+   /**
+    * Returns the kth minimum distinct value in a. This method throws
+    * IllegalArgumentException if a is null, has zero length, or if there
+    * is no kth minimum value. The array a is not changed by this method.
+    */
+   public int kmin(int[] a, int k) {
+      check(a, k);
+      int d = distinct(a, 0, a.length);
+      if (k > d) {
+         throw new IllegalArgumentException();
+      }
+      select(buf, 0, d, k - 1);
+      return buf[k - 1];
+   }
+
+   /**
+    * Returns the kth maximum distinct value in a. This method throws
+    * IllegalArgumentException if a is null, has zero length, or if there
+    * is no kth maximum value. The array a is not changed by this method.
+    */
+   public int kmax(int[] a, int k) {
+      check(a, k);
+      int d = distinct(a, 0, a.length);
+      if (k > d) {
+         throw new IllegalArgumentException();
+      }
+      select(buf, 0, d, d - k);
+      return buf[d - k];
+   }
+
+   /**
+    * Returns a new array of the k smallest distinct values in a, in
+    * ascending order. This method throws IllegalArgumentException if a is
+    * null, has zero length, or has fewer than k distinct values, or if k is
+    * less than 1. The array a is not changed by this method.
+    */
+   public int[] kSmallest(int[] a, int k) {
+      return extremes(a, k, false);
+   }
+
+   /**
+    * Returns a new array of the k largest distinct values in a, in
+    * descending order. This method throws IllegalArgumentException if a is
+    * null, has zero length, or has fewer than k distinct values, or if k is
+    * less than 1. The array a is not changed by this method.
+    */
+   public int[] kLargest(int[] a, int k) {
+      return extremes(a, k, true);
+   }
+
+   /**
+    * Copies the distinct values of a[from..to) into the front of the
+    * scratch buffer, in no particular order, and returns how many there
+    * are. The values stay in buffer() until the next call on this selector.
+    * Ranges up to HASH_LIMIT long are hashed into a table at most half
+    * full, in expected linear time; longer ones are copied, sorted, and
+    * compacted, which needs no scratch beyond the copy.
+    */
+   public int distinct(int[] a, int from, int to) {
+      int n = to - from;
+      if (n > HASH_LIMIT) {
+         return sortedDistinct(a, from, n);
+      }
+      int tableSize = tableSize(n);
+      if (buf.length < n + tableSize) {
+         buf = new int[n + tableSize];
+      }
+      int mask = tableSize - 1;
+      Arrays.fill(buf, n, n + tableSize, EMPTY);
+
+      int count = 0;
+      boolean sawEmpty = false;
+      for (int i = from; i < to; i++) {
+         int v = a[i];
+         if (v == EMPTY) {
+            if (!sawEmpty) {
+               sawEmpty = true;
+               buf[count++] = v;
+            }
+            continue;
+         }
+         int slot = mix(v) & mask;
+         while (buf[n + slot] != EMPTY && buf[n + slot] != v) {
+            slot = (slot + 1) & mask;
+         }
+         if (buf[n + slot] == EMPTY) {
+            buf[n + slot] = v;
+            buf[count++] = v;
+         }
+      }
+      return count;
+   }
+
+   /**
+    * Grows the scratch buffer, if needed, so that distinct allocates
+    * nothing on any range no longer than n. A range just past HASH_LIMIT
+    * is sorted in n ints, but a shorter one is hashed and needs its table
+    * as well, so the buffer must fit whichever is larger.
+    */
+   void reserve(int n) {
+      int hashed = Math.min(n, HASH_LIMIT);
+      int need = Math.max(n, hashed + tableSize(hashed));
+      if (buf.length < need) {
+         buf = new int[need];
+      }
+   }
+
+   /**
+    * Returns the hash table size distinct uses for a range of length n:
+    * the least power of two that is at least 2n.
+    */
+   private static int tableSize(int n) {
+      return Integer.highestOneBit(Math.max(2 * n - 1, 1)) << 1;
+   }
+
+   /**
+    * Does what distinct does for the n values from a[from], by sorting a
+    * copy of them in the scratch buffer and squeezing out repeats.
+    */
+   private int sortedDistinct(int[] a, int from, int n) {
+      if (buf.length < n) {
+         buf = new int[n];
+      }
+      System.arraycopy(a, from, buf, 0, n);
+      Arrays.sort(buf, 0, n);
+      int count = 1;
+      for (int i = 1; i < n; i++) {
+         if (buf[i] != buf[count - 1]) {
+            buf[count++] = buf[i];
+         }
+      }
+      return count;
+   }
+
+   /**
+    * Returns the scratch buffer filled in by the last call to distinct.
+    */
+   public int[] buffer() {
+      return buf;
+   }
+
+   /**
+    * Rearranges x[lo..hi) so that x[rank] holds the value it would hold if
+    * x[lo..hi) were sorted, every value before it is no larger, and every
+    * value after it is no smaller. The rank is an absolute index into x.
+    */
+   public static void select(int[] x, int lo, int hi, int rank) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo));
+      hi--;
+      while (hi - lo > INSERTION_CUTOFF) {
+         int pivot;
+         if (depth-- > 0) {
+            pivot = medianOfThree(x, lo, lo + ((hi - lo) >>> 1), hi);
+         }
+         else {
+            pivot = x[medianOfMedians(x, lo, hi)];
+         }
+         // three-way partition: [lo..lt) < pivot, [lt..gt] == pivot
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i <= gt) {
+            if (x[i] < pivot) {
+               swap(x, lt++, i++);
+            }
+            else if (x[i] > pivot) {
+               swap(x, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+         if (rank < lt) {
+            hi = lt - 1;
+         }
+         else if (rank > gt) {
+            lo = gt + 1;
+         }
+         else {
+            return;
+         }
+      }
+      insertionSort(x, lo, hi);
+   }
+
+   /**
+    * Rearranges x[lo..hi) so that every rank in ranks[rlo..rhi) holds the
+    * value it would hold if x[lo..hi) were sorted. The ranks must be in
+    * ascending order and are absolute indexes into x. The work done to
+    * place one rank is shared with the ranks on either side of it.
+    */
+   public static void multiSelect(int[] x, int lo, int hi,
+                                  int[] ranks, int rlo, int rhi) {
+      if (rlo >= rhi || lo >= hi) {
+         return;
+      }
+      int mid = (rlo + rhi) >>> 1;
+      int rank = ranks[mid];
+      select(x, lo, hi, rank);
+      int left = mid;
+      while (left > rlo && ranks[left - 1] == rank) {
+         left--;
+      }
+      int right = mid + 1;
+      while (right < rhi && ranks[right] == rank) {
+         right++;
+      }
+      multiSelect(x, lo, rank, ranks, rlo, left);
+      multiSelect(x, rank + 1, hi, ranks, right, rhi);
+   }
+
+   /**
+    * Returns the k smallest, or largest, distinct values of a in order.
+    * Small k keep a bounded heap in one pass over a. Larger k gather the
+    * distinct values, select the kth, and sort only the k before it.
+    */
+   private int[] extremes(int[] a, int k, boolean largest) {
+      check(a, k);
+      if (k <= SMALL_K) {
+         return boundedHeap(a, k, largest);
+      }
+      int d = distinct(a, 0, a.length);
+      if (k > d) {
+         throw new IllegalArgumentException();
+      }
+      int[] out = new int[k];
+      if (largest) {
+         select(buf, 0, d, d - k);
+         Arrays.sort(buf, d - k, d);
+         for (int i = 0; i < k; i++) {
+            out[i] = buf[d - 1 - i];
+         }
+      }
+      else {
+         select(buf, 0, d, k - 1);
+         Arrays.sort(buf, 0, k);
+         System.arraycopy(buf, 0, out, 0, k);
+      }
+      return out;
+   }
+
+   /**
+    * Keeps the k least distinct keys of a in a max-heap, where the key of
+    * v is v itself, or ~v when the largest values are wanted since ~
+    * reverses the order of ints. A value enters the heap only if it beats
+    * the top and is not already there, which a scan of the heap decides.
+    */
+   private static int[] boundedHeap(int[] a, int k, boolean largest) {
+      int flip = largest ? ~0 : 0;
+      int[] heap = new int[k];
+      int size = 0;
+      for (int i = 0; i < a.length; i++) {
+         int key = a[i] ^ flip;
+         if (size < k) {
+            if (indexOf(heap, size, key) < 0) {
+               // sift the new key up from the bottom
+               int c = size++;
+               while (c > 0 && heap[(c - 1) >>> 1] < key) {
+                  heap[c] = heap[(c - 1) >>> 1];
+                  c = (c - 1) >>> 1;
+               }
+               heap[c] = key;
+            }
+         }
+         else if (key < heap[0] && indexOf(heap, k, key) < 0) {
+            // replace the top and sift it down
+            int p = 0;
+            while (2 * p + 1 < k) {
+               int c = 2 * p + 1;
+               if (c + 1 < k && heap[c + 1] > heap[c]) {
+                  c++;
+               }
+               if (heap[c] <= key) {
+                  break;
+               }
+               heap[p] = heap[c];
+               p = c;
+            }
+            heap[p] = key;
+         }
+      }
+      if (size < k) {
+         throw new IllegalArgumentException();
+      }
+      Arrays.sort(heap);
+      for (int i = 0; i < k; i++) {
+         heap[i] ^= flip;
+      }
+      return heap;
+   }
+
+   /** Returns the index of key in x[0..n), or -1. */
+   private static int indexOf(int[] x, int n, int key) {
+      for (int i = 0; i < n; i++) {
+         if (x[i] == key) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   /** Shared argument checks for kmin and kmax. */
+   private static void check(int[] a, int k) {
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+      if (k < 1 || k > a.length) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+   /** Spreads the bits of v so nearby values land in different slots. */
+   private static int mix(int v) {
+      int h = v * 0x9E3779B9;
+      return h ^ (h >>> 16);
+   }
+
+   /** Returns the median of x[i], x[j], and x[k]. */
+   private static int medianOfThree(int[] x, int i, int j, int k) {
+      int a = x[i];
+      int b = x[j];
+      int c = x[k];
+      if (a < b) {
+         return b < c ? b : (a < c ? c : a);
+      }
+      return a < c ? a : (b < c ? c : b);
+   }
+
+   /**
+    * Returns the index of a value in x[lo..hi] that is guaranteed to have
+    * at least 30% of the range on either side of it. Medians of groups of
+    * five are moved to the front of the range and their median is found
+    * recursively.
+    */
+   private static int medianOfMedians(int[] x, int lo, int hi) {
+      if (hi - lo < 5) {
+         insertionSort(x, lo, hi);
+         return lo + ((hi - lo) >>> 1);
+      }
+      int m = lo;
+      for (int i = lo; i + 4 <= hi; i += 5) {
+         insertionSort(x, i, i + 4);
+         swap(x, m++, i + 2);
+      }
+      int mid = lo + ((m - 1 - lo) >>> 1);
+      select(x, lo, m, mid);
+      return mid;
+   }
+
+   /** Sorts x[lo..hi] in place. */
+   private static void insertionSort(int[] x, int lo, int hi) {
+      for (int i = lo + 1; i <= hi; i++) {
+         int v = x[i];
+         int j = i - 1;
+         while (j >= lo && x[j] > v) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = v;
+      }
+   }
+
+   /** Swaps x[i] and x[j]. */
+   private static void swap(int[] x, int i, int j) {
+      int t = x[i];
+      x[i] = x[j];
+      x[j] = t;
+   }
+
+}
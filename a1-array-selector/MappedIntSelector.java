@@ -0,0 +1,386 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * MappedIntSelector.java. Implements the Selector methods over a binary file
+ * of ints without reading the file onto the heap. The file is mapped into
+ * memory one region at a time and each region is walked as an IntBuffer.
+ * The file holds 4-byte ints back to back, big-endian by default (as written
+ * by DataOutputStream); trailing bytes that do not make a whole int are
+ * ignored.
+ *
+ * Min, max, ceiling, floor, and range take one or two passes. Kmin and kmax
+ * stay out of core as well: a first pass counts values by their high 16
+ * bits, and later passes mark the values present in a window of those
+ * buckets in a bitmap no larger than the configured budget, moving bucket
+ * by bucket from the low (or high) end until the kth distinct value is
+ * found. A file that is empty behaves like a zero-length array.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class MappedIntSelector implements Closeable {
+
+   /** The default bitmap budget for kmin and kmax, in bytes. */
+   public static final int DEFAULT_BITMAP_BYTES = 1 << 26;
+
+   /** bytes mapped at a time; a multiple of 4. */
+   private static final long REGION_BYTES = 1L << 28;
+
+   /** number of buckets in the first kmin/kmax pass. */
+   private static final int BUCKETS = 1 << 16;
+
+   /** longs in the bitmap for one bucket of 2^16 values. */
+   private static final int WORDS_PER_BUCKET = (1 << 16) / 64;
+
+   private final FileChannel channel;
+   private final ByteOrder order;
+   private final boolean owned;
+   private final int bitmapBytes;
+
+   /** number of ints in the file. */
+   private final long size;
+
+   /**
+    * Opens the file at path for selection with big-endian ints and the
+    * default bitmap budget. The file is closed by close.
+    */
+   public MappedIntSelector(Path path) throws IOException {
+      this(FileChannel.open(path, StandardOpenOption.READ),
+           ByteOrder.BIG_ENDIAN, DEFAULT_BITMAP_BYTES, true);
+   }
+
+   /**
+    * Creates a selector over the ints in channel, stored in the given byte
+    * order, using at most bitmapBytes of heap for the kmin and kmax
+    * bitmaps. The channel is not closed by close. This method throws
+    * IllegalArgumentException if channel or order is null or bitmapBytes is
+    * less than the 8 KB needed for one bucket.
+    */
+   public MappedIntSelector(FileChannel channel, ByteOrder order,
+                            int bitmapBytes) throws IOException {
+      this(channel, order, bitmapBytes, false);
+   }
+
+   /** Shared constructor. */
+   private MappedIntSelector(FileChannel channel, ByteOrder order,
+                             int bitmapBytes, boolean owned)
+                             throws IOException {
+      if (channel == null || order == null
+            || bitmapBytes < WORDS_PER_BUCKET * 8) {
+         throw new IllegalArgumentException();
+      }
+      this.channel = channel;
+      this.order = order;
+      this.bitmapBytes = bitmapBytes;
+      this.owned = owned;
+      this.size = channel.size() / 4;
+   }
+
+   /**
+    * Returns the number of ints in the file.
+    */
+   public long size() {
+      return size;
+   }
+
+   /**
+    * Selects the minimum value in the file. This method throws
+    * IllegalArgumentException if the file holds no ints.
+    */
+   public int min() throws IOException {
+      checkNotEmpty();
+      int minValue = Integer.MAX_VALUE;
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v < minValue) {
+               minValue = v;
+            }
+         }
+      }
+      return minValue;
+   }
+
+   /**
+    * Selects the maximum value in the file. This method throws
+    * IllegalArgumentException if the file holds no ints.
+    */
+   public int max() throws IOException {
+      checkNotEmpty();
+      int maxValue = Integer.MIN_VALUE;
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v > maxValue) {
+               maxValue = v;
+            }
+         }
+      }
+      return maxValue;
+   }
+
+   /**
+    * Returns the smallest value in the file that is greater than or equal
+    * to key. This method throws IllegalArgumentException if the file holds
+    * no ints or if there is no qualifying value.
+    */
+   public int ceiling(int key) throws IOException {
+      checkNotEmpty();
+      boolean found = false;
+      int best = 0;
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v >= key && (!found || v < best)) {
+               best = v;
+               found = true;
+            }
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return best;
+   }
+
+   /**
+    * Returns the largest value in the file that is less than or equal to
+    * key. This method throws IllegalArgumentException if the file holds no
+    * ints or if there is no qualifying value.
+    */
+   public int floor(int key) throws IOException {
+      checkNotEmpty();
+      boolean found = false;
+      int best = 0;
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v <= key && (!found || v > best)) {
+               best = v;
+               found = true;
+            }
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return best;
+   }
+
+   /**
+    * Returns the number of values in the file in the range [low..high],
+    * including duplicates. This method throws IllegalArgumentException if
+    * the file holds no ints.
+    */
+   public long rangeCount(int low, int high) throws IOException {
+      checkNotEmpty();
+      long count = 0;
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v >= low && v <= high) {
+               count++;
+            }
+         }
+      }
+      return count;
+   }
+
+   /**
+    * Returns an array containing all the values in the file in the range
+    * [low..high], including duplicates, in file order. This method throws
+    * IllegalArgumentException if the file holds no ints or if there are
+    * too many qualifying values to fit in an array.
+    */
+   public int[] range(int low, int high) throws IOException {
+      long count = rangeCount(low, high);
+      if (count > Integer.MAX_VALUE - 8) {
+         throw new IllegalArgumentException();
+      }
+      int[] range = new int[(int) count];
+      int index = 0;
+      for (long r = 0; r < regions() && index < range.length; r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            int v = b.get(i);
+            if (v >= low && v <= high) {
+               range[index++] = v;
+            }
+         }
+      }
+      return range;
+   }
+
+   /**
+    * Selects the kth minimum value in the file. This method throws
+    * IllegalArgumentException if the file holds no ints or if there is no
+    * kth minimum value.
+    */
+   public int kmin(long k) throws IOException {
+      return selectDistinct(k, false);
+   }
+
+   /**
+    * Selects the kth maximum value in the file. This method throws
+    * IllegalArgumentException if the file holds no ints or if there is no
+    * kth maximum value.
+    */
+   public int kmax(long k) throws IOException {
+      return selectDistinct(k, true);
+   }
+
+   /**
+    * Closes the file if this selector opened it.
+    */
+   @Override
+   public void close() throws IOException {
+      if (owned) {
+         channel.close();
+      }
+   }
+
+   /**
+    * Finds the kth distinct value from the low end, or from the high end
+    * if fromMax is true, in a histogram pass plus one bitmap pass per
+    * window of non-empty buckets.
+    */
+   private int selectDistinct(long k, boolean fromMax) throws IOException {
+      checkNotEmpty();
+      if (k < 1 || k > size) {
+         throw new IllegalArgumentException();
+      }
+
+      long[] counts = new long[BUCKETS];
+      for (long r = 0; r < regions(); r++) {
+         IntBuffer b = region(r);
+         for (int i = 0, n = b.limit(); i < n; i++) {
+            counts[bucket(b.get(i))]++;
+         }
+      }
+
+      int windowBuckets = bitmapBytes / (WORDS_PER_BUCKET * 8);
+      int[] slot = new int[BUCKETS];
+      int[] window = new int[windowBuckets];
+      long[] bits = null;
+      long remaining = k;
+
+      int next = fromMax ? BUCKETS - 1 : 0;
+      int step = fromMax ? -1 : 1;
+      while (next >= 0 && next < BUCKETS) {
+         // gather the next window of non-empty buckets, in search order
+         Arrays.fill(slot, -1);
+         int w = 0;
+         for (; next >= 0 && next < BUCKETS && w < windowBuckets;
+              next += step) {
+            if (counts[next] > 0) {
+               slot[next] = w;
+               window[w++] = next;
+            }
+         }
+         if (w == 0) {
+            break;
+         }
+         if (bits == null) {
+            bits = new long[windowBuckets * WORDS_PER_BUCKET];
+         }
+         else {
+            Arrays.fill(bits, 0, w * WORDS_PER_BUCKET, 0L);
+         }
+
+         for (long r = 0; r < regions(); r++) {
+            IntBuffer b = region(r);
+            for (int i = 0, n = b.limit(); i < n; i++) {
+               int v = b.get(i);
+               int s = slot[bucket(v)];
+               if (s >= 0) {
+                  int low = v & 0xFFFF;
+                  bits[s * WORDS_PER_BUCKET + (low >>> 6)] |= 1L << low;
+               }
+            }
+         }
+
+         for (int s = 0; s < w; s++) {
+            int base = s * WORDS_PER_BUCKET;
+            int distinct = 0;
+            for (int j = 0; j < WORDS_PER_BUCKET; j++) {
+               distinct += Long.bitCount(bits[base + j]);
+            }
+            if (remaining > distinct) {
+               remaining -= distinct;
+               continue;
+            }
+            int low = nthBit(bits, base, (int) remaining, fromMax);
+            return ((window[s] - BUCKETS / 2) << 16) | low;
+         }
+      }
+      throw new IllegalArgumentException();
+   }
+
+   /**
+    * Returns the position of the nth set bit, counting from the low end
+    * (or the high end if fromHigh is true) of the bucket's bitmap that
+    * starts at bits[base].
+    */
+   private static int nthBit(long[] bits, int base, int n, boolean fromHigh) {
+      for (int j = 0; j < WORDS_PER_BUCKET; j++) {
+         int word = fromHigh ? WORDS_PER_BUCKET - 1 - j : j;
+         long x = bits[base + word];
+         int c = Long.bitCount(x);
+         if (n > c) {
+            n -= c;
+            continue;
+         }
+         for (int i = 1; i < n; i++) {
+            if (fromHigh) {
+               x &= ~Long.highestOneBit(x);
+            }
+            else {
+               x &= x - 1;
+            }
+         }
+         int bit = fromHigh ? 63 - Long.numberOfLeadingZeros(x)
+                            : Long.numberOfTrailingZeros(x);
+         return word * 64 + bit;
+      }
+      throw new IllegalStateException();
+   }
+
+   /** Returns the histogram bucket of v, in signed order. */
+   private static int bucket(int v) {
+      return (v >> 16) + BUCKETS / 2;
+   }
+
+   /** Returns the number of regions the file is mapped in. */
+   private long regions() {
+      return (size * 4 + REGION_BYTES - 1) / REGION_BYTES;
+   }
+
+   /** Maps region r of the file and returns it as an IntBuffer. */
+   private IntBuffer region(long r) throws IOException {
+      long start = r * REGION_BYTES;
+      long length = Math.min(REGION_BYTES, size * 4 - start);
+      return channel.map(FileChannel.MapMode.READ_ONLY, start, length)
+         .order(order).asIntBuffer();
+   }
+
+   /** Throws IllegalArgumentException if the file holds no ints. */
+   private void checkNotEmpty() {
+      if (size == 0) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+}
@@ -0,0 +1,563 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ParallelSelector.java. Implements the Selector methods on a ForkJoinPool
+ * for very large arrays of ints. The array is split into chunks of at least
+ * threshold values. Min, max, ceiling, and floor are reduced chunk by chunk,
+ * range counts each chunk and then scatters into the result, and kmin and
+ * kmax partition the values into buckets around splitters drawn from a
+ * sample and select only within the bucket that holds the answer. Arrays
+ * shorter than the threshold are handed to Selector.
+ *
+ * Results and exceptions are exactly those of the matching Selector method.
+ * The array a is not changed by any method.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class ParallelSelector {
+
+   /** The default array length below which the sequential code is used. */
+   public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+   /** reduction kinds. */
+   private static final int MIN = 0;
+   private static final int MAX = 1;
+   private static final int CEILING = 2;
+   private static final int FLOOR = 3;
+
+   /** marks a chunk with no qualifying value. */
+   private static final long NONE = Long.MIN_VALUE;
+
+   /** sample values drawn per bucket when choosing splitters. */
+   private static final int SAMPLES_PER_BUCKET = 64;
+
+   /** the pool that runs the tasks. */
+   private final ForkJoinPool pool;
+
+   /** the smallest array, and the smallest chunk, worth splitting. */
+   private final int threshold;
+
+   /**
+    * Creates a parallel selector on the common pool with the default
+    * threshold.
+    */
+   public ParallelSelector() {
+      this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+   }
+
+   /**
+    * Creates a parallel selector that runs on pool and falls back to
+    * Selector for arrays shorter than threshold. This method throws
+    * IllegalArgumentException if pool is null or threshold is less than 1.
+    */
+   public ParallelSelector(ForkJoinPool pool, int threshold) {
+      if (pool == null || threshold < 1) {
+         throw new IllegalArgumentException();
+      }
+      this.pool = pool;
+      this.threshold = threshold;
+   }
+
+   /**
+    * Selects the minimum value from the array a, as Selector.min does.
+    */
+   public int min(int[] a) {
+      check(a);
+      if (a.length < threshold) {
+         return Selector.min(a);
+      }
+      return pool.invoke(new Reduce(a, 0, a.length, MIN, 0)).intValue();
+   }
+
+   /**
+    * Selects the maximum value from the array a, as Selector.max does.
+    */
+   public int max(int[] a) {
+      check(a);
+      if (a.length < threshold) {
+         return Selector.max(a);
+      }
+      return pool.invoke(new Reduce(a, 0, a.length, MAX, 0)).intValue();
+   }
+
+   /**
+    * Returns the smallest value in a that is greater than or equal to key,
+    * as Selector.ceiling does.
+    */
+   public int ceiling(int[] a, int key) {
+      check(a);
+      if (a.length < threshold) {
+         return Selector.ceiling(a, key);
+      }
+      long c = pool.invoke(new Reduce(a, 0, a.length, CEILING, key));
+      if (c == NONE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) c;
+   }
+
+   /**
+    * Returns the largest value in a that is less than or equal to key, as
+    * Selector.floor does.
+    */
+   public int floor(int[] a, int key) {
+      check(a);
+      if (a.length < threshold) {
+         return Selector.floor(a, key);
+      }
+      long f = pool.invoke(new Reduce(a, 0, a.length, FLOOR, key));
+      if (f == NONE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) f;
+   }
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], in the order they appear in a, as Selector.range does.
+    * Each chunk counts its qualifying values, the counts are summed into
+    * starting offsets, and each chunk then copies its values into place.
+    */
+   public int[] range(int[] a, int low, int high) {
+      check(a);
+      if (a.length < threshold) {
+         return Selector.range(a, low, high);
+      }
+      int chunks = chunks(a.length);
+      int[] counts = new int[chunks];
+      pool.invoke(new RangeCount(a, low, high, counts, 0, chunks));
+
+      int[] offsets = new int[chunks];
+      int total = 0;
+      for (int c = 0; c < chunks; c++) {
+         offsets[c] = total;
+         total += counts[c];
+      }
+      int[] out = new int[total];
+      if (total > 0) {
+         pool.invoke(new RangeScatter(a, low, high, offsets, out, 0, chunks));
+      }
+      return out;
+   }
+
+   /**
+    * Selects the kth minimum value from the array a, as Selector.kmin does.
+    */
+   public int kmin(int[] a, int k) {
+      checkK(a, k);
+      if (a.length < threshold) {
+         return Selector.kmin(a, k);
+      }
+      return selectDistinct(a, k, false);
+   }
+
+   /**
+    * Selects the kth maximum value from the array a, as Selector.kmax does.
+    */
+   public int kmax(int[] a, int k) {
+      checkK(a, k);
+      if (a.length < threshold) {
+         return Selector.kmax(a, k);
+      }
+      return selectDistinct(a, k, true);
+   }
+
+   /**
+    * Finds the kth minimum (or kth maximum) distinct value of a. Splitters
+    * taken from a sorted sample cut the value range into buckets; every
+    * chunk counts and then scatters its values into their buckets, each
+    * bucket counts its distinct values, and the answer is selected from the
+    * one bucket where the running distinct count reaches k.
+    */
+   private int selectDistinct(int[] a, int k, boolean fromMax) {
+      int chunks = chunks(a.length);
+      int[] splitters = splitters(a, Math.max(2, 4 * pool.getParallelism()));
+      int buckets = splitters.length + 1;
+
+      int[][] counts = new int[chunks][buckets];
+      pool.invoke(new BucketCount(a, splitters, counts, 0, chunks));
+
+      // bucket-major offsets so each bucket is contiguous in out
+      int[] bucketStart = new int[buckets + 1];
+      int[][] offsets = new int[chunks][buckets];
+      int total = 0;
+      for (int b = 0; b < buckets; b++) {
+         bucketStart[b] = total;
+         for (int c = 0; c < chunks; c++) {
+            offsets[c][b] = total;
+            total += counts[c][b];
+         }
+      }
+      bucketStart[buckets] = total;
+
+      int[] out = new int[a.length];
+      pool.invoke(new BucketScatter(a, splitters, offsets, out, 0, chunks));
+
+      int[] distinct = new int[buckets];
+      pool.invoke(new BucketDistinct(out, bucketStart, distinct, 0, buckets));
+
+      int d = 0;
+      for (int b = 0; b < buckets; b++) {
+         d += distinct[b];
+      }
+      if (k > d) {
+         throw new IllegalArgumentException();
+      }
+      int rank = fromMax ? d - k + 1 : k;
+
+      int b = 0;
+      while (rank > distinct[b]) {
+         rank -= distinct[b];
+         b++;
+      }
+      IntSelect select = new IntSelect();
+      int n = select.distinct(out, bucketStart[b], bucketStart[b + 1]);
+      int[] buf = select.buffer();
+      IntSelect.select(buf, 0, n, rank - 1);
+      return buf[rank - 1];
+   }
+
+   /**
+    * Returns up to count - 1 distinct splitters, in ascending order, taken
+    * evenly from a sorted random sample of a.
+    */
+   private static int[] splitters(int[] a, int count) {
+      SplittableRandom random = new SplittableRandom(a.length);
+      int[] sample = new int[count * SAMPLES_PER_BUCKET];
+      for (int i = 0; i < sample.length; i++) {
+         sample[i] = a[random.nextInt(a.length)];
+      }
+      Arrays.sort(sample);
+      int[] s = new int[count - 1];
+      int n = 0;
+      for (int i = 1; i < count; i++) {
+         int v = sample[i * SAMPLES_PER_BUCKET];
+         if (n == 0 || v != s[n - 1]) {
+            s[n++] = v;
+         }
+      }
+      return Arrays.copyOf(s, n);
+   }
+
+   /**
+    * Returns the bucket that holds v: the index of the first splitter that
+    * is greater than or equal to v, or splitters.length if there is none.
+    */
+   private static int bucket(int[] splitters, int v) {
+      int lo = 0;
+      int hi = splitters.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (splitters[mid] < v) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+   /** Returns the number of chunks an array of length n is split into. */
+   private int chunks(int n) {
+      int target = 4 * pool.getParallelism();
+      int size = Math.max(threshold, (n + target - 1) / target);
+      return (n + size - 1) / size;
+   }
+
+   /** Returns the first index of chunk c of an array of length n. */
+   private static int chunkStart(int n, int chunks, int c) {
+      return (int) ((long) n * c / chunks);
+   }
+
+   /** Argument checks shared by all methods. */
+   private static void check(int[] a) {
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+   /** Argument checks shared by kmin and kmax. */
+   private static void checkK(int[] a, int k) {
+      check(a);
+      if (k < 1 || k > a.length) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+   /**
+    * Reduces a[lo..hi) to its min, max, ceiling, or floor. Returns NONE if
+    * no value qualifies.
+    */
+   private final class Reduce extends RecursiveTask<Long> {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] a;
+      private final int lo;
+      private final int hi;
+      private final int op;
+      private final int key;
+
+      Reduce(int[] a, int lo, int hi, int op, int key) {
+         this.a = a;
+         this.lo = lo;
+         this.hi = hi;
+         this.op = op;
+         this.key = key;
+      }
+
+      @Override
+      protected Long compute() {
+         if (hi - lo <= threshold) {
+            return leaf();
+         }
+         int mid = (lo + hi) >>> 1;
+         Reduce left = new Reduce(a, lo, mid, op, key);
+         left.fork();
+         long r = new Reduce(a, mid, hi, op, key).compute();
+         long l = left.join();
+         if (l == NONE) {
+            return r;
+         }
+         if (r == NONE) {
+            return l;
+         }
+         return (op == MIN || op == CEILING) ? Math.min(l, r) : Math.max(l, r);
+      }
+
+      /** Reduces this range sequentially. */
+      private long leaf() {
+         long best = NONE;
+         switch (op) {
+            case MIN:
+               int min = a[lo];
+               for (int i = lo; i < hi; i++) {
+                  if (a[i] < min) {
+                     min = a[i];
+                  }
+               }
+               return min;
+            case MAX:
+               int max = a[lo];
+               for (int i = lo; i < hi; i++) {
+                  if (a[i] > max) {
+                     max = a[i];
+                  }
+               }
+               return max;
+            case CEILING:
+               for (int i = lo; i < hi; i++) {
+                  if (a[i] >= key && (best == NONE || a[i] < best)) {
+                     best = a[i];
+                  }
+               }
+               return best;
+            default:
+               for (int i = lo; i < hi; i++) {
+                  if (a[i] <= key && (best == NONE || a[i] > best)) {
+                     best = a[i];
+                  }
+               }
+               return best;
+         }
+      }
+   }
+
+   /** Counts the values in [low..high] in each of chunks [c0..c1). */
+   private final class RangeCount extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] a;
+      private final int low;
+      private final int high;
+      private final int[] counts;
+      private final int c0;
+      private final int c1;
+
+      RangeCount(int[] a, int low, int high, int[] counts, int c0, int c1) {
+         this.a = a;
+         this.low = low;
+         this.high = high;
+         this.counts = counts;
+         this.c0 = c0;
+         this.c1 = c1;
+      }
+
+      @Override
+      protected void compute() {
+         if (c1 - c0 > 1) {
+            int mid = (c0 + c1) >>> 1;
+            invokeAll(new RangeCount(a, low, high, counts, c0, mid),
+                      new RangeCount(a, low, high, counts, mid, c1));
+            return;
+         }
+         int n = 0;
+         int end = chunkStart(a.length, counts.length, c0 + 1);
+         for (int i = chunkStart(a.length, counts.length, c0); i < end; i++) {
+            if (a[i] >= low && a[i] <= high) {
+               n++;
+            }
+         }
+         counts[c0] = n;
+      }
+   }
+
+   /** Copies the values in [low..high] of chunks [c0..c1) into out. */
+   private final class RangeScatter extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] a;
+      private final int low;
+      private final int high;
+      private final int[] offsets;
+      private final int[] out;
+      private final int c0;
+      private final int c1;
+
+      RangeScatter(int[] a, int low, int high, int[] offsets, int[] out,
+                   int c0, int c1) {
+         this.a = a;
+         this.low = low;
+         this.high = high;
+         this.offsets = offsets;
+         this.out = out;
+         this.c0 = c0;
+         this.c1 = c1;
+      }
+
+      @Override
+      protected void compute() {
+         if (c1 - c0 > 1) {
+            int mid = (c0 + c1) >>> 1;
+            invokeAll(new RangeScatter(a, low, high, offsets, out, c0, mid),
+                      new RangeScatter(a, low, high, offsets, out, mid, c1));
+            return;
+         }
+         int j = offsets[c0];
+         int end = chunkStart(a.length, offsets.length, c0 + 1);
+         for (int i = chunkStart(a.length, offsets.length, c0); i < end; i++) {
+            if (a[i] >= low && a[i] <= high) {
+               out[j++] = a[i];
+            }
+         }
+      }
+   }
+
+   /** Counts the values of each bucket in each of chunks [c0..c1). */
+   private final class BucketCount extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] a;
+      private final int[] splitters;
+      private final int[][] counts;
+      private final int c0;
+      private final int c1;
+
+      BucketCount(int[] a, int[] splitters, int[][] counts, int c0, int c1) {
+         this.a = a;
+         this.splitters = splitters;
+         this.counts = counts;
+         this.c0 = c0;
+         this.c1 = c1;
+      }
+
+      @Override
+      protected void compute() {
+         if (c1 - c0 > 1) {
+            int mid = (c0 + c1) >>> 1;
+            invokeAll(new BucketCount(a, splitters, counts, c0, mid),
+                      new BucketCount(a, splitters, counts, mid, c1));
+            return;
+         }
+         int[] count = counts[c0];
+         int end = chunkStart(a.length, counts.length, c0 + 1);
+         for (int i = chunkStart(a.length, counts.length, c0); i < end; i++) {
+            count[bucket(splitters, a[i])]++;
+         }
+      }
+   }
+
+   /** Copies the values of chunks [c0..c1) into their buckets in out. */
+   private final class BucketScatter extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] a;
+      private final int[] splitters;
+      private final int[][] offsets;
+      private final int[] out;
+      private final int c0;
+      private final int c1;
+
+      BucketScatter(int[] a, int[] splitters, int[][] offsets, int[] out,
+                    int c0, int c1) {
+         this.a = a;
+         this.splitters = splitters;
+         this.offsets = offsets;
+         this.out = out;
+         this.c0 = c0;
+         this.c1 = c1;
+      }
+
+      @Override
+      protected void compute() {
+         if (c1 - c0 > 1) {
+            int mid = (c0 + c1) >>> 1;
+            invokeAll(new BucketScatter(a, splitters, offsets, out, c0, mid),
+                      new BucketScatter(a, splitters, offsets, out, mid, c1));
+            return;
+         }
+         int[] next = offsets[c0];
+         int end = chunkStart(a.length, offsets.length, c0 + 1);
+         for (int i = chunkStart(a.length, offsets.length, c0); i < end; i++) {
+            out[next[bucket(splitters, a[i])]++] = a[i];
+         }
+      }
+   }
+
+   /**
+    * Counts the distinct values in each of buckets [b0..b1). The buckets
+    * are split into about one run per worker, and each run shares one
+    * IntSelect, so only that many scratch buffers are live at once.
+    */
+   private final class BucketDistinct extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      private final int[] out;
+      private final int[] bucketStart;
+      private final int[] distinct;
+      private final int b0;
+      private final int b1;
+
+      BucketDistinct(int[] out, int[] bucketStart, int[] distinct,
+                     int b0, int b1) {
+         this.out = out;
+         this.bucketStart = bucketStart;
+         this.distinct = distinct;
+         this.b0 = b0;
+         this.b1 = b1;
+      }
+
+      @Override
+      protected void compute() {
+         int run = Math.max(1, distinct.length / pool.getParallelism());
+         if (b1 - b0 > run) {
+            int mid = (b0 + b1) >>> 1;
+            invokeAll(new BucketDistinct(out, bucketStart, distinct, b0, mid),
+                      new BucketDistinct(out, bucketStart, distinct, mid, b1));
+            return;
+         }
+         IntSelect select = new IntSelect();
+         for (int b = b0; b < b1; b++) {
+            distinct[b] =
+               select.distinct(out, bucketStart[b], bucketStart[b + 1]);
+         }
+      }
+   }
+
+}
@@ -0,0 +1,342 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * QuantileSketch.java. Approximates quantiles of a very large number of ints
+ * in bounded memory using a KLL sketch. Values are kept in a stack of
+ * levels; a value at level h stands for 2^h of the values seen. When a
+ * level fills, it is sorted and every other value, starting at a random
+ * offset, is promoted to the next level while the rest are dropped. Level
+ * capacities shrink by a factor of 2/3 going down from the top level,
+ * which holds k values.
+ *
+ * The normalized rank error is about 2/k with high probability, and the
+ * sketch retains O(k) values however many it has seen. Sketches built on
+ * different threads or shards can be merged. Unlike Selector.kmin and
+ * Selector.kmax, ranks here count duplicate values.
+ *
+ * A QuantileSketch is not safe for use by more than one thread at a time.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class QuantileSketch {
+
+   /** The default accuracy parameter, about 1% rank error. */
+   public static final int DEFAULT_K = 200;
+
+   /** the smallest capacity of any level. */
+   private static final int MIN_CAPACITY = 2;
+
+   /** the accuracy parameter: the capacity of the top level. */
+   private final int k;
+
+   /** levels[h][0..sizes[h]) are the values kept at level h. */
+   private int[][] levels = new int[1][];
+   private int[] sizes = new int[1];
+
+   /** number of values seen, and their min and max. */
+   private long n;
+   private int min;
+   private int max;
+
+   private final Random random;
+
+   /**
+    * Creates an empty sketch with the default accuracy.
+    */
+   public QuantileSketch() {
+      this(DEFAULT_K);
+   }
+
+   /**
+    * Creates an empty sketch with accuracy parameter k. This method throws
+    * IllegalArgumentException if k is less than 8.
+    */
+   public QuantileSketch(int k) {
+      this(k, new Random());
+   }
+
+   /**
+    * Creates an empty sketch with accuracy parameter k whose random
+    * choices come from random, so that runs can be repeated. This method
+    * throws IllegalArgumentException if k is less than 8 or random is null.
+    */
+   public QuantileSketch(int k, Random random) {
+      if (k < 8 || random == null) {
+         throw new IllegalArgumentException();
+      }
+      this.k = k;
+      this.random = random;
+      levels[0] = new int[capacity(0)];
+   }
+
+   /**
+    * Creates an empty sketch whose normalized rank error is about epsilon.
+    * This method throws IllegalArgumentException if epsilon is not in
+    * (0, 0.25].
+    */
+   public static QuantileSketch forError(double epsilon) {
+      if (!(epsilon > 0 && epsilon <= 0.25)) {
+         throw new IllegalArgumentException();
+      }
+      return new QuantileSketch((int) Math.ceil(2.0 / epsilon));
+   }
+
+   /**
+    * Adds the value v to this sketch.
+    */
+   public void update(int v) {
+      if (n == 0) {
+         min = v;
+         max = v;
+      }
+      else if (v < min) {
+         min = v;
+      }
+      else if (v > max) {
+         max = v;
+      }
+      n++;
+      append(0, v);
+      if (sizes[0] >= capacity(0)) {
+         compress();
+      }
+   }
+
+   /**
+    * Adds every value in a to this sketch.
+    */
+   public void update(int[] a) {
+      for (int v : a) {
+         update(v);
+      }
+   }
+
+   /**
+    * Adds every value seen by other to this sketch. The other sketch is
+    * not changed unless it is this sketch, which then counts each of its
+    * values twice. This method throws IllegalArgumentException if other is
+    * null.
+    */
+   public void merge(QuantileSketch other) {
+      if (other == null) {
+         throw new IllegalArgumentException();
+      }
+      if (other.n == 0) {
+         return;
+      }
+      if (n == 0) {
+         min = other.min;
+         max = other.max;
+      }
+      else {
+         min = Math.min(min, other.min);
+         max = Math.max(max, other.max);
+      }
+      // snapshot other first: when it is this sketch, append would grow
+      // the very levels being read
+      int levelCount = other.sizes.length;
+      int[][] kept = new int[levelCount][];
+      for (int h = 0; h < levelCount; h++) {
+         kept[h] = Arrays.copyOf(other.levels[h], other.sizes[h]);
+      }
+      n += other.n;
+      for (int h = 0; h < levelCount; h++) {
+         for (int i = 0; i < kept[h].length; i++) {
+            append(h, kept[h][i]);
+         }
+      }
+      compress();
+   }
+
+   /**
+    * Returns the number of values seen by this sketch.
+    */
+   public long count() {
+      return n;
+   }
+
+   /**
+    * Returns the number of values this sketch currently keeps.
+    */
+   public int retained() {
+      int r = 0;
+      for (int s : sizes) {
+         r += s;
+      }
+      return r;
+   }
+
+   /**
+    * Returns the exact minimum value seen. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int min() {
+      checkNotEmpty();
+      return min;
+   }
+
+   /**
+    * Returns the exact maximum value seen. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int max() {
+      checkNotEmpty();
+      return max;
+   }
+
+   /**
+    * Returns the approximate fraction of values seen that are less than or
+    * equal to v. This method throws IllegalArgumentException if the sketch
+    * is empty.
+    */
+   public double rank(int v) {
+      checkNotEmpty();
+      long weight = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         for (int i = 0; i < sizes[h]; i++) {
+            if (levels[h][i] <= v) {
+               weight += 1L << h;
+            }
+         }
+      }
+      return (double) weight / n;
+   }
+
+   /**
+    * Returns an approximation of the value at fraction q of the sorted
+    * values seen, where 0 gives the min and 1 gives the max. This method
+    * throws IllegalArgumentException if the sketch is empty or q is not in
+    * [0, 1].
+    */
+   public int quantile(double q) {
+      checkNotEmpty();
+      if (!(q >= 0 && q <= 1)) {
+         throw new IllegalArgumentException();
+      }
+      if (q == 0) {
+         return min;
+      }
+      if (q == 1) {
+         return max;
+      }
+      return atWeight((long) Math.ceil(q * n));
+   }
+
+   /**
+    * Returns an approximation of the kth smallest value seen, counting
+    * duplicates. This method throws IllegalArgumentException if the sketch
+    * is empty or k is not in [1, count()].
+    */
+   public int kmin(long k) {
+      checkNotEmpty();
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      if (k == 1) {
+         return min;
+      }
+      if (k == n) {
+         return max;
+      }
+      return atWeight(k);
+   }
+
+   /**
+    * Returns an approximation of the kth largest value seen, counting
+    * duplicates. This method throws IllegalArgumentException if the sketch
+    * is empty or k is not in [1, count()].
+    */
+   public int kmax(long k) {
+      checkNotEmpty();
+      if (k < 1 || k > n) {
+         throw new IllegalArgumentException();
+      }
+      return kmin(n - k + 1);
+   }
+
+   /**
+    * Returns the smallest kept value whose cumulative weight, with all
+    * kept values in ascending order, reaches target.
+    */
+   private int atWeight(long target) {
+      int r = retained();
+      long[] items = new long[r];
+      int j = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         for (int i = 0; i < sizes[h]; i++) {
+            // value in the high half so items sort by value, level below
+            items[j++] = ((long) levels[h][i] << 32) | h;
+         }
+      }
+      Arrays.sort(items);
+      long weight = 0;
+      for (long item : items) {
+         weight += 1L << (int) (item & 0xFFFFFFFFL);
+         if (weight >= target) {
+            return (int) (item >> 32);
+         }
+      }
+      return max;
+   }
+
+   /** Appends v to level h, adding levels as needed. */
+   private void append(int h, int v) {
+      while (h >= sizes.length) {
+         addLevel();
+      }
+      if (sizes[h] == levels[h].length) {
+         levels[h] = Arrays.copyOf(levels[h], Math.max(MIN_CAPACITY,
+                                                        2 * sizes[h]));
+      }
+      levels[h][sizes[h]++] = v;
+   }
+
+   /** Adds an empty level on top of the stack. */
+   private void addLevel() {
+      int h = sizes.length;
+      levels = Arrays.copyOf(levels, h + 1);
+      sizes = Arrays.copyOf(sizes, h + 1);
+      levels[h] = new int[MIN_CAPACITY];
+   }
+
+   /**
+    * Compacts every level, from the bottom up, that is at or over its
+    * capacity.
+    */
+   private void compress() {
+      for (int h = 0; h < sizes.length; h++) {
+         if (sizes[h] >= capacity(h)) {
+            if (h + 1 == sizes.length) {
+               addLevel();
+            }
+            int[] level = levels[h];
+            int size = sizes[h];
+            Arrays.sort(level, 0, size);
+            // an odd value out stays behind at this level
+            int keep = size & 1;
+            for (int i = keep + random.nextInt(2); i < size; i += 2) {
+               append(h + 1, level[i]);
+            }
+            sizes[h] = keep;
+         }
+      }
+   }
+
+   /** Returns the capacity of level h. */
+   private int capacity(int h) {
+      int depth = sizes.length - 1 - h;
+      return Math.max(MIN_CAPACITY,
+                      (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+   }
+
+   /** Throws IllegalArgumentException if this sketch is empty. */
+   private void checkNotEmpty() {
+      if (n == 0) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+}
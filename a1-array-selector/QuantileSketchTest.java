@@ -0,0 +1,62 @@
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class QuantileSketchTest {
+
+   /** values seen before merging: 0 to N - 1, once each. */
+   private static final int N = 100000;
+
+   /** accuracy parameter; the rank error is about 2 / K. */
+   private static final int K = 200;
+
+   private QuantileSketch sketch;
+
+
+   /** Fixture initialization (common initialization
+    *  for all tests). **/
+   @Before public void setUp() {
+      Random random = new Random(2210);
+      sketch = new QuantileSketch(K, random);
+      int[] values = new int[N];
+      for (int i = 0; i < N; i++) {
+         values[i] = i;
+      }
+      for (int i = N - 1; i > 0; i--) {
+         int j = random.nextInt(i + 1);
+         int t = values[i];
+         values[i] = values[j];
+         values[j] = t;
+      }
+      sketch.update(values);
+   }
+
+
+   /** Merging a sketch into itself doubles its count and keeps its
+    *  ranks. **/
+   @Test public void selfMergeTest() {
+      long count = N;
+      for (int round = 0; round < 3; round++) {
+         sketch.merge(sketch);
+         count *= 2;
+         assertEquals(count, sketch.count());
+         assertEquals(0, sketch.min());
+         assertEquals(N - 1, sketch.max());
+         assertRanks();
+      }
+   }
+
+
+   /** Asserts that every decile's rank is within 3 / K of the truth, which
+    *  is the same however many times each value was seen. **/
+   private void assertRanks() {
+      for (int d = 1; d < 10; d++) {
+         int v = d * (N / 10) - 1;
+         double expected = (double) (v + 1) / N;
+         assertEquals("decile " + d, expected, sketch.rank(v), 3.0 / K);
+      }
+   }
+}
@@ -1,5 +1,3 @@
-import java.util.Arrays;
-
 /**
 * Defines a library of selection methods
 * on arrays of ints.
@@ -29,13 +27,7 @@ public final class Selector {
       if (a == null || a.length == 0) {
          throw new IllegalArgumentException();
       }
-      int minValue = a[0];
-      for (int i = 0; i < a.length; i++) {
-         if (a[i] < minValue) {
-            minValue = a[i];
-         }
-      }
-      return minValue;
+      return IntKernels.get().min(a);
    }
 
    /**
@@ -47,13 +39,7 @@ public final class Selector {
       if (a == null || a.length == 0) {
          throw new IllegalArgumentException();
       }
-      int maxValue = a[0];
-      for (int i = 0; i < a.length; i++) {
-         if (a[i] > maxValue) {
-            maxValue = a[i];
-         }
-      }
-      return maxValue;
+      return IntKernels.get().max(a);
    }
 
 
@@ -66,66 +52,7 @@ public final class Selector {
     * changed by this method.
     */
    public static int kmin(int[] a, int k) {
-      if (a == null || a.length == 0) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (k < 1 || k > a.length) {
-         throw new IllegalArgumentException();
-      }
-      
-      // New array to sort
-      int[] a1 = new int[a.length];
-      int indexA1 = 0;
-      
-      // Add elements to new array
-      for (int i = 0; i < a.length; i++) {
-         a1[indexA1++] = a[i];
-      }
-      
-      
-      // Sort array to have duplicates next to each other
-      Arrays.sort(a1);
-      
-      // Compare previous value to next value
-      int previous = a[0] - 1;
-      int dupeCount = 0;
-      
-      // loop to count duplicates
-      for (int i = 0; i < a.length; i++) {
-         if (a1[i] == previous) {
-            dupeCount++;
-         } else {
-            previous = a1[i];
-         }
-      }
-      
-      // new array to add non dupes to
-      int[] kminArr = new int[a1.length - dupeCount];
-      
-      // throws new IAE if k > distinct values
-      if (k > kminArr.length) {
-         throw new IllegalArgumentException();
-      }
-      
-      // reset previous for next loop
-      previous = a1[0] - 1;
-      int newIndex = 0;
-      
-      // loop to add distinct values to new array
-      for (int i = 0; i < a1.length; i++) {
-         if (a1[i] == previous) {
-            //skip this number
-         } else {
-            previous = a1[i];
-            kminArr[newIndex++] = a1[i];
-         }
-      }
-      
-      int kmin = kminArr[k-1];
-               
-      // int kthMin = a[k-1]; ONLY WORKS WITHOUT DUPLICATES
-      return kmin;
+      return new IntSelect().kmin(a, k);
    }
 
 
@@ -138,67 +65,31 @@ public final class Selector {
     * changed by this method.
     */
    public static int kmax(int[] a, int k) {
-   
-      if (a == null || a.length == 0) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (k < 1 || k > a.length) {
-         throw new IllegalArgumentException();
-      }
-      
-      // New array to sort
-      int[] a1 = new int[a.length];
-      int indexA1 = 0;
-      
-      // Add elements to new array
-      for (int i = 0; i < a.length; i++) {
-         a1[indexA1++] = a[i];
-      }
-   
-      
-      // Sort array ascending order
-      Arrays.sort(a1);  
-             
-      // Compare previous value to next value
-      int previous = a1[0] - 1;
-      int dupeCount = 0;
-      
-      // loop to count duplicates
-      for (int i = 0; i < a1.length; i++) {
-         if (a1[i] == previous) {
-            dupeCount++;
-         } else {
-            previous = a1[i];
-         }
-      }
-      
-      // new array to add non dupes to
-      int[] kmaxArr = new int[a1.length - dupeCount];
-      
-      // throws new IAE if k > distinct values
-      if (k > kmaxArr.length) {
-         throw new IllegalArgumentException();
-      }
-      
-      // reset previous for next loop
-      previous = a1[0] - 1;
-      int newIndex = 0;
-      
-      // loop to add distinct values to new array
-      for (int i = 0; i < a1.length; i++) {
-         if (a1[i] == previous) {
-            //skip this number
-         } else {
-            previous = a1[i];
-            kmaxArr[newIndex++] = a1[i];
-         }
-      }
-      int end = kmaxArr.length;
-      int kmax = kmaxArr[end - k];
-      
-      
-      return kmax;
+      return new IntSelect().kmax(a, k);
+   }
+
+
+   /**
+    * Returns a new array of the k smallest distinct values in a,
+    * in ascending order, so that element i is the (i + 1)th
+    * minimum value. This method throws IllegalArgumentException
+    * if a is null, has zero length, or if there is no kth minimum
+    * value. The array a is not changed by this method.
+    */
+   public static int[] kSmallest(int[] a, int k) {
+      return new IntSelect().kSmallest(a, k);
+   }
+
+
+   /**
+    * Returns a new array of the k largest distinct values in a,
+    * in descending order, so that element i is the (i + 1)th
+    * maximum value. This method throws IllegalArgumentException
+    * if a is null, has zero length, or if there is no kth maximum
+    * value. The array a is not changed by this method.
+    */
+   public static int[] kLargest(int[] a, int k) {
+      return new IntSelect().kLargest(a, k);
    }
 
 
@@ -218,21 +109,58 @@ public final class Selector {
       if (a == null || a.length == 0) {
          throw new IllegalArgumentException();
       }
-      int numForArray = 0;
-      for (int i = 0; i < a.length; i++) {
-         if (a[i] >= low && a[i] <= high) {
-            numForArray++;
-            // add a[i] to new array
-         }
+      return IntKernels.get().range(a, low, high);
+   }
+
+
+   /**
+    * Selects the kth minimum value from the array a as kmin(a, k) does,
+    * using the scratch buffers in ws so that no memory is allocated once ws
+    * fits arrays of this length. This method throws
+    * IllegalArgumentException if ws is null or as kmin(a, k) does.
+    */
+   public static int kmin(int[] a, int k, SelectorWorkspace ws) {
+      if (ws == null) {
+         throw new IllegalArgumentException();
       }
-      int [] range = new int[numForArray];
-      int index = 0;
-      for (int i = 0; i < a.length; i++) {
-         if (a[i] >= low && a[i] <= high) {
-            range[index++] = a[i];
-         }
+      return ws.select.kmin(a, k);
+   }
+
+
+   /**
+    * Selects the kth maximum value from the array a as kmax(a, k) does,
+    * using the scratch buffers in ws so that no memory is allocated once ws
+    * fits arrays of this length. This method throws
+    * IllegalArgumentException if ws is null or as kmax(a, k) does.
+    */
+   public static int kmax(int[] a, int k, SelectorWorkspace ws) {
+      if (ws == null) {
+         throw new IllegalArgumentException();
+      }
+      return ws.select.kmax(a, k);
+   }
+
+
+   /**
+    * Copies all the values in a in the range [low..high], including
+    * duplicates, into the front of out in the order they appear in a,
+    * and returns how many there are. No memory is allocated. This method
+    * throws an IllegalArgumentException if a is null or has zero length,
+    * if out is null, or if out is too short to hold every qualifying
+    * value; an out as long as a is always long enough. The array a is
+    * not changed by this method.
+    */
+   public static int range(int[] a, int low, int high, int[] out) {
+      if (a == null || a.length == 0 || out == null) {
+         throw new IllegalArgumentException();
+      }
+      IntKernel kernel = IntKernels.get();
+      int count = kernel.rangeCount(a, low, high);
+      if (count > out.length) {
+         throw new IllegalArgumentException();
       }
-      return range;
+      kernel.rangeInto(a, low, high, out);
+      return count;
    }
 
 
@@ -0,0 +1,405 @@
+import java.util.Arrays;
+
+/**
+ * SelectorBatch.java. Collects a mix of Selector queries and answers all of
+ * them against one array with shared work instead of one scan or sort per
+ * query. Every kmin and kmax query is answered by a single multi-select over
+ * the distinct values of the array. Every min, max, ceiling, and floor query
+ * is answered by the same pass over the array, with the ceiling and floor
+ * keys sorted once and swept together. Every range query is answered by
+ * binary search in one sorted copy of the array, shared by all of them.
+ *
+ * Each query method returns a query number that is used to look up the
+ * answer in the Result returned by run. A batch may be run against any
+ * number of arrays.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class SelectorBatch {
+
+   /** query kinds. */
+   private static final int MIN = 0;
+   private static final int MAX = 1;
+   private static final int KMIN = 2;
+   private static final int KMAX = 3;
+   private static final int RANGE = 4;
+   private static final int CEILING = 5;
+   private static final int FLOOR = 6;
+
+   /** marks a query with no qualifying value. */
+   private static final long NONE = Long.MIN_VALUE;
+
+   /** the queries in this batch, one entry per query number. */
+   private int[] kind = new int[8];
+   private int[] arg1 = new int[8];
+   private int[] arg2 = new int[8];
+   private int count;
+
+   /**
+    * Creates an empty batch.
+    */
+   public SelectorBatch() { }
+
+   /** Adds a min query and returns its query number. */
+   public int min() {
+      return add(MIN, 0, 0);
+   }
+
+   /** Adds a max query and returns its query number. */
+   public int max() {
+      return add(MAX, 0, 0);
+   }
+
+   /** Adds a kth minimum query and returns its query number. */
+   public int kmin(int k) {
+      return add(KMIN, k, 0);
+   }
+
+   /** Adds a kth maximum query and returns its query number. */
+   public int kmax(int k) {
+      return add(KMAX, k, 0);
+   }
+
+   /** Adds a range query for [low..high] and returns its query number. */
+   public int range(int low, int high) {
+      return add(RANGE, low, high);
+   }
+
+   /** Adds a ceiling query and returns its query number. */
+   public int ceiling(int key) {
+      return add(CEILING, key, 0);
+   }
+
+   /** Adds a floor query and returns its query number. */
+   public int floor(int key) {
+      return add(FLOOR, key, 0);
+   }
+
+   /**
+    * Returns the number of queries in this batch.
+    */
+   public int size() {
+      return count;
+   }
+
+   /**
+    * Answers every query in this batch against the array a. This method
+    * throws IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this method.
+    */
+   public Result run(int[] a) {
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+      long[] values = new long[count];
+      int[][] ranges = new int[count][];
+      Arrays.fill(values, NONE);
+
+      answerSelections(a, values);
+      answerScans(a, values);
+      answerRanges(a, ranges);
+
+      return new Result(values, ranges);
+   }
+
+   /**
+    * Answers the kmin and kmax queries with one multi-select over the
+    * distinct values of a.
+    */
+   private void answerSelections(int[] a, long[] values) {
+      int selections = 0;
+      for (int q = 0; q < count; q++) {
+         if (kind[q] == KMIN || kind[q] == KMAX) {
+            selections++;
+         }
+      }
+      if (selections == 0) {
+         return;
+      }
+
+      IntSelect select = new IntSelect();
+      int d = select.distinct(a, 0, a.length);
+      int[] buf = select.buffer();
+
+      int[] ranks = new int[selections];
+      int r = 0;
+      for (int q = 0; q < count; q++) {
+         if (kind[q] == KMIN || kind[q] == KMAX) {
+            int k = arg1[q];
+            if (k >= 1 && k <= d) {
+               ranks[r++] = kind[q] == KMIN ? k - 1 : d - k;
+            }
+         }
+      }
+      Arrays.sort(ranks, 0, r);
+      IntSelect.multiSelect(buf, 0, d, ranks, 0, r);
+
+      for (int q = 0; q < count; q++) {
+         if (kind[q] == KMIN || kind[q] == KMAX) {
+            int k = arg1[q];
+            if (k >= 1 && k <= d) {
+               values[q] = buf[kind[q] == KMIN ? k - 1 : d - k];
+            }
+         }
+      }
+   }
+
+   /**
+    * Answers the min, max, ceiling, and floor queries. One pass finds min
+    * and max and drops each value into the slot of the sorted ceiling and
+    * floor keys it falls between.
+    */
+   private void answerScans(int[] a, long[] values) {
+      int[] keys = new int[count];
+      int m = 0;
+      for (int q = 0; q < count; q++) {
+         if (kind[q] == CEILING || kind[q] == FLOOR) {
+            keys[m++] = arg1[q];
+         }
+      }
+      Arrays.sort(keys, 0, m);
+      m = unique(keys, m);
+
+      // bestCeil[i] is the least value whose largest key at or below it is
+      // keys[i]; bestFloor[i] is the greatest value whose least key at or
+      // above it is keys[i].
+      long[] bestCeil = new long[m];
+      long[] bestFloor = new long[m];
+      Arrays.fill(bestCeil, NONE);
+      Arrays.fill(bestFloor, NONE);
+
+      int min = a[0];
+      int max = a[0];
+      for (int i = 0; i < a.length; i++) {
+         int v = a[i];
+         if (v < min) {
+            min = v;
+         }
+         if (v > max) {
+            max = v;
+         }
+         if (m > 0) {
+            int j = upperBound(keys, m, v) - 1;
+            if (j >= 0 && (bestCeil[j] == NONE || v < bestCeil[j])) {
+               bestCeil[j] = v;
+            }
+            j = lowerBound(keys, m, v);
+            if (j < m && (bestFloor[j] == NONE || v > bestFloor[j])) {
+               bestFloor[j] = v;
+            }
+         }
+      }
+
+      for (int i = m - 2; i >= 0; i--) {
+         if (bestCeil[i] == NONE || (bestCeil[i + 1] != NONE
+               && bestCeil[i + 1] < bestCeil[i])) {
+            bestCeil[i] = bestCeil[i + 1];
+         }
+      }
+      for (int i = 1; i < m; i++) {
+         if (bestFloor[i] == NONE || (bestFloor[i - 1] != NONE
+               && bestFloor[i - 1] > bestFloor[i])) {
+            bestFloor[i] = bestFloor[i - 1];
+         }
+      }
+
+      for (int q = 0; q < count; q++) {
+         switch (kind[q]) {
+            case MIN:
+               values[q] = min;
+               break;
+            case MAX:
+               values[q] = max;
+               break;
+            case CEILING:
+               values[q] = bestCeil[lowerBound(keys, m, arg1[q])];
+               break;
+            case FLOOR:
+               values[q] = bestFloor[lowerBound(keys, m, arg1[q])];
+               break;
+            default:
+               break;
+         }
+      }
+   }
+
+   /**
+    * Answers the range queries. The values of a are sorted once, each
+    * paired with its position, so every range is a run of the sorted pairs
+    * found by binary search. The positions in a run are sorted to give the
+    * values back in the order they appear in a. This takes
+    * O(n log n + R log n) time for R ranges, plus O(m log m) for a range of
+    * m values.
+    */
+   private void answerRanges(int[] a, int[][] ranges) {
+      int rangeCount = 0;
+      for (int q = 0; q < count; q++) {
+         if (kind[q] == RANGE) {
+            rangeCount++;
+         }
+      }
+      if (rangeCount == 0) {
+         return;
+      }
+
+      // value in the high half, position in the low half
+      long[] pairs = new long[a.length];
+      for (int i = 0; i < a.length; i++) {
+         pairs[i] = ((long) a[i] << 32) | i;
+      }
+      Arrays.sort(pairs);
+
+      for (int q = 0; q < count; q++) {
+         if (kind[q] != RANGE) {
+            continue;
+         }
+         int low = arg1[q];
+         int high = arg2[q];
+         int from = low > high ? 0 : firstAtLeast(pairs, (long) low << 32);
+         // no position reaches 0xFFFFFFFF, so this is the first pair above high
+         int to = low > high ? 0
+            : firstAtLeast(pairs, ((long) high << 32) | 0xFFFFFFFFL);
+         int[] positions = new int[to - from];
+         for (int i = from; i < to; i++) {
+            positions[i - from] = (int) pairs[i];
+         }
+         Arrays.sort(positions);
+         for (int i = 0; i < positions.length; i++) {
+            positions[i] = a[positions[i]];
+         }
+         ranges[q] = positions;
+      }
+   }
+
+   /** Returns the index of the first of the sorted x that is >= key. */
+   private static int firstAtLeast(long[] x, long key) {
+      int lo = 0;
+      int hi = x.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (x[mid] < key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+   /** Adds a query to this batch and returns its query number. */
+   private int add(int k, int x, int y) {
+      if (count == kind.length) {
+         kind = Arrays.copyOf(kind, count * 2);
+         arg1 = Arrays.copyOf(arg1, count * 2);
+         arg2 = Arrays.copyOf(arg2, count * 2);
+      }
+      kind[count] = k;
+      arg1[count] = x;
+      arg2[count] = y;
+      return count++;
+   }
+
+   /**
+    * Removes adjacent duplicates from the sorted x[0..n) and returns the
+    * number of values left.
+    */
+   private static int unique(int[] x, int n) {
+      if (n == 0) {
+         return 0;
+      }
+      int j = 1;
+      for (int i = 1; i < n; i++) {
+         if (x[i] != x[j - 1]) {
+            x[j++] = x[i];
+         }
+      }
+      return j;
+   }
+
+   /** Returns the index of the first of x[0..n) that is >= key. */
+   private static int lowerBound(int[] x, int n, int key) {
+      int lo = 0;
+      int hi = n;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (x[mid] < key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+   /** Returns the index of the first of x[0..n) that is > key. */
+   private static int upperBound(int[] x, int n, int key) {
+      int lo = 0;
+      int hi = n;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (x[mid] <= key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+   /**
+    * The answers to one run of a batch, looked up by query number.
+    */
+   public static final class Result {
+
+      /** answers to the single-value queries. */
+      private final long[] values;
+
+      /** answers to the range queries. */
+      private final int[][] ranges;
+
+      /** Creates a result from the answers computed by run. */
+      private Result(long[] values, int[][] ranges) {
+         this.values = values;
+         this.ranges = ranges;
+      }
+
+      /**
+       * Returns the answer to a min, max, kmin, kmax, ceiling, or floor
+       * query. This method throws IllegalArgumentException if query is not
+       * one of those queries or if the query had no qualifying value, just
+       * as the matching Selector method would.
+       */
+      public int value(int query) {
+         if (query < 0 || query >= values.length || values[query] == NONE) {
+            throw new IllegalArgumentException();
+         }
+         return (int) values[query];
+      }
+
+      /**
+       * Returns the answer to a range query, with the values in the order
+       * they appear in the array. This method throws
+       * IllegalArgumentException if query is not a range query.
+       */
+      public int[] range(int query) {
+         if (query < 0 || query >= ranges.length || ranges[query] == null) {
+            throw new IllegalArgumentException();
+         }
+         return ranges[query];
+      }
+
+      /**
+       * Returns true if the given query has an answer.
+       */
+      public boolean isPresent(int query) {
+         return query >= 0 && query < values.length
+            && (values[query] != NONE || ranges[query] != null);
+      }
+   }
+
+}
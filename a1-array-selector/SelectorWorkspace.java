@@ -0,0 +1,39 @@
+/**
+ * SelectorWorkspace.java. Scratch space for the Selector methods that
+ * would otherwise allocate on every call. A caller that makes many
+ * selections keeps one workspace and passes it to the Selector overloads
+ * that take one. A workspace created for arrays of length n allocates
+ * nothing on any array no longer than that. One created empty grows its
+ * buffers to fit the largest array seen; since arrays longer than 2^26 are
+ * sorted rather than hashed, and need less scratch per value, a later call
+ * on a shorter array can still grow them once.
+ *
+ * A workspace must not be used by more than one thread at a time.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class SelectorWorkspace {
+
+   /** the selector whose buffer holds the distinct values. */
+   final IntSelect select = new IntSelect();
+
+   /**
+    * Creates a workspace with empty buffers.
+    */
+   public SelectorWorkspace() { }
+
+   /**
+    * Creates a workspace whose buffers already fit every array no longer
+    * than n, so that no call on one allocates anything. This method throws
+    * IllegalArgumentException if n is negative.
+    */
+   public SelectorWorkspace(int n) {
+      if (n < 0) {
+         throw new IllegalArgumentException();
+      }
+      select.reserve(n);
+   }
+
+}
@@ -0,0 +1,34 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+
+public class SelectorWorkspaceTest {
+
+   /** Arrays on both sides of IntSelect.HASH_LIMIT, the longest that
+    *  distinct hashes, fit a workspace made for the longer one. These
+    *  arrays and the buffer take about 1.4 GB of heap. **/
+   @Test public void hashLimitTest() {
+      int n = IntSelect.HASH_LIMIT;
+      SelectorWorkspace ws = new SelectorWorkspace(n + 1);
+      int[] buffer = ws.select.buffer();
+
+      int[] a = values(n + 1);
+      assertEquals(0, Selector.kmin(a, 1, ws));
+      assertSame(buffer, ws.select.buffer());
+      a = null;
+
+      int[] b = values(n);
+      assertEquals(999, Selector.kmax(b, 1, ws));
+      assertSame(buffer, ws.select.buffer());
+   }
+
+
+   /** Returns an array of length n holding 0 to 999 over and over. **/
+   private static int[] values(int n) {
+      int[] a = new int[n];
+      for (int i = 0; i < n; i++) {
+         a[i] = i % 1000;
+      }
+      return a;
+   }
+}
@@ -0,0 +1,194 @@
+import java.util.Arrays;
+
+/**
+ * SortedIntIndex.java. A sorted copy of an array of ints, built once, that
+ * answers the Selector queries by binary search instead of a full scan.
+ * Ceiling and floor take O(log n) time, range takes O(log n + m) time for
+ * m qualifying values, and kmin and kmax take constant time through the
+ * distinct values of the array.
+ *
+ * The index keeps its own copies of the values, so later changes to the
+ * array it was built from are not seen by the index.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class SortedIntIndex {
+
+   /** all values from the source array, in ascending order. */
+   private final int[] sorted;
+
+   /** the distinct values from the source array, in ascending order. */
+   private final int[] distinct;
+
+   /**
+    * Builds an index over the values in a. This method throws
+    * IllegalArgumentException if a is null or has zero length. The array
+    * a is not changed by this method.
+    */
+   public SortedIntIndex(int[] a) {
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+      sorted = Arrays.copyOf(a, a.length);
+      Arrays.sort(sorted);
+
+      int d = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            d++;
+         }
+      }
+      distinct = new int[d];
+      distinct[0] = sorted[0];
+      int j = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            distinct[j++] = sorted[i];
+         }
+      }
+   }
+
+   /**
+    * Returns the number of values in this index, including duplicates.
+    */
+   public int size() {
+      return sorted.length;
+   }
+
+   /**
+    * Returns the number of distinct values in this index.
+    */
+   public int distinctCount() {
+      return distinct.length;
+   }
+
+   /**
+    * Returns the minimum value in this index.
+    */
+   public int min() {
+      return sorted[0];
+   }
+
+   /**
+    * Returns the maximum value in this index.
+    */
+   public int max() {
+      return sorted[sorted.length - 1];
+   }
+
+   /**
+    * Returns the kth minimum value in this index. This method throws
+    * IllegalArgumentException if k < 1 or k is larger than the number of
+    * distinct values.
+    */
+   public int kmin(int k) {
+      if (k < 1 || k > distinct.length) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[k - 1];
+   }
+
+   /**
+    * Returns the kth maximum value in this index. This method throws
+    * IllegalArgumentException if k < 1 or k is larger than the number of
+    * distinct values.
+    */
+   public int kmax(int k) {
+      if (k < 1 || k > distinct.length) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[distinct.length - k];
+   }
+
+   /**
+    * Returns the smallest value in this index that is greater than or equal
+    * to key. This method throws IllegalArgumentException if there is no
+    * qualifying value.
+    */
+   public int ceiling(int key) {
+      int i = lowerBound(key);
+      if (i == sorted.length) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[i];
+   }
+
+   /**
+    * Returns the largest value in this index that is less than or equal to
+    * key. This method throws IllegalArgumentException if there is no
+    * qualifying value.
+    */
+   public int floor(int key) {
+      int i = upperBound(key);
+      if (i == 0) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[i - 1];
+   }
+
+   /**
+    * Returns the number of values in the range [low..high], including
+    * duplicate values.
+    */
+   public int rangeCount(int low, int high) {
+      if (low > high) {
+         return 0;
+      }
+      return upperBound(high) - lowerBound(low);
+   }
+
+   /**
+    * Returns an array containing all the values in the range [low..high],
+    * including duplicate values. Unlike Selector.range, the values are
+    * returned in ascending order rather than in the order they appeared in
+    * the source array. If there are no qualifying values, this method
+    * returns a zero-length array.
+    */
+   public int[] range(int low, int high) {
+      if (low > high) {
+         return new int[0];
+      }
+      return Arrays.copyOfRange(sorted, lowerBound(low), upperBound(high));
+   }
+
+   /**
+    * Returns the index of the first value in sorted that is greater than
+    * or equal to key, or sorted.length if there is none.
+    */
+   private int lowerBound(int key) {
+      int lo = 0;
+      int hi = sorted.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sorted[mid] < key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+   /**
+    * Returns the index of the first value in sorted that is greater than
+    * key, or sorted.length if there is none.
+    */
+   private int upperBound(int key) {
+      int lo = 0;
+      int hi = sorted.length;
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         if (sorted[mid] <= key) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+}
@@ -0,0 +1,245 @@
+import java.nio.IntBuffer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * StreamingSelector.java. Selects min, max, kth minimum, and kth maximum
+ * values from a source of ints that is too large to hold in memory. Values
+ * are consumed one at a time or in chunks, and results can be asked for at
+ * any point; each result is the one Selector would give for all the values
+ * consumed so far.
+ *
+ * The state is bounded by the capacity given at construction: the largest
+ * k for which kmin and kmax can be answered. For each end, candidates are
+ * appended to a buffer of twice the capacity and, when it fills, the
+ * buffer is cut back to the capacity smallest (or largest) distinct
+ * values, so each value costs amortized constant time. Once the buffer
+ * holds capacity distinct values, anything beyond the current cutoff is
+ * rejected with a single comparison.
+ *
+ * A StreamingSelector is not safe for use by more than one thread at a time.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class StreamingSelector implements IntConsumer {
+
+   /** values copied out of an IntBuffer at a time. */
+   private static final int CHUNK = 8192;
+
+   /** the largest k that kmin and kmax can answer. */
+   private final int capacity;
+
+   /** the candidates for kmin and kmax. */
+   private final Extremes smallest;
+   private final Extremes largest;
+
+   /** number of values consumed, and their min and max. */
+   private long count;
+   private int min;
+   private int max;
+
+   /** scratch for copying out of an IntBuffer. */
+   private int[] chunk;
+
+   /**
+    * Creates a streaming selector that can answer kmin and kmax for any k
+    * up to capacity. This method throws IllegalArgumentException if
+    * capacity is less than 1.
+    */
+   public StreamingSelector(int capacity) {
+      if (capacity < 1) {
+         throw new IllegalArgumentException();
+      }
+      this.capacity = capacity;
+      smallest = new Extremes(capacity, false);
+      largest = new Extremes(capacity, true);
+   }
+
+   /**
+    * Consumes the value v.
+    */
+   @Override
+   public void accept(int v) {
+      if (count == 0) {
+         min = v;
+         max = v;
+      }
+      else if (v < min) {
+         min = v;
+      }
+      else if (v > max) {
+         max = v;
+      }
+      count++;
+      smallest.offer(v);
+      largest.offer(v);
+   }
+
+   /**
+    * Consumes the values a[from..to).
+    */
+   public void accept(int[] a, int from, int to) {
+      for (int i = from; i < to; i++) {
+         accept(a[i]);
+      }
+   }
+
+   /**
+    * Consumes every value in the stream s. The stream is run sequentially.
+    */
+   public void accept(IntStream s) {
+      s.sequential().forEach(this);
+   }
+
+   /**
+    * Consumes the remaining values in the buffer b, in chunks, leaving its
+    * position at its limit.
+    */
+   public void accept(IntBuffer b) {
+      if (chunk == null) {
+         chunk = new int[CHUNK];
+      }
+      while (b.hasRemaining()) {
+         int n = Math.min(CHUNK, b.remaining());
+         b.get(chunk, 0, n);
+         accept(chunk, 0, n);
+      }
+   }
+
+   /**
+    * Returns the number of values consumed so far.
+    */
+   public long count() {
+      return count;
+   }
+
+   /**
+    * Returns the largest k that kmin and kmax can answer.
+    */
+   public int capacity() {
+      return capacity;
+   }
+
+   /**
+    * Returns the minimum value consumed so far. This method throws
+    * IllegalArgumentException if no values have been consumed.
+    */
+   public int min() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return min;
+   }
+
+   /**
+    * Returns the maximum value consumed so far. This method throws
+    * IllegalArgumentException if no values have been consumed.
+    */
+   public int max() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return max;
+   }
+
+   /**
+    * Returns the kth minimum value consumed so far. This method throws
+    * IllegalArgumentException if k < 1, k is larger than the capacity, or
+    * there is no kth minimum value.
+    */
+   public int kmin(int k) {
+      if (k < 1 || k > capacity) {
+         throw new IllegalArgumentException();
+      }
+      return smallest.select(k);
+   }
+
+   /**
+    * Returns the kth maximum value consumed so far. This method throws
+    * IllegalArgumentException if k < 1, k is larger than the capacity, or
+    * there is no kth maximum value.
+    */
+   public int kmax(int k) {
+      if (k < 1 || k > capacity) {
+         throw new IllegalArgumentException();
+      }
+      return largest.select(k);
+   }
+
+   /**
+    * The candidates for one end of the order: up to capacity distinct
+    * extremes plus values admitted since the last compaction.
+    */
+   private static final class Extremes {
+
+      /** true if this keeps the largest values, false for the smallest. */
+      private final boolean descending;
+      private final int capacity;
+      private final int[] buf;
+      private int size;
+
+      /** true once the kept values are capacity distinct values. */
+      private boolean full;
+
+      /** the worst kept value once full; worse values are rejected. */
+      private int cutoff;
+
+      private final IntSelect select = new IntSelect();
+
+      Extremes(int capacity, boolean descending) {
+         this.capacity = capacity;
+         this.descending = descending;
+         buf = new int[2 * capacity];
+      }
+
+      /** Admits v if it could be one of the capacity best values. */
+      void offer(int v) {
+         if (full && (descending ? v <= cutoff : v >= cutoff)) {
+            return;
+         }
+         if (size == buf.length) {
+            compact();
+         }
+         buf[size++] = v;
+      }
+
+      /**
+       * Returns the kth best distinct value, or throws
+       * IllegalArgumentException if there are fewer than k.
+       */
+      int select(int k) {
+         compact();
+         if (k > size) {
+            throw new IllegalArgumentException();
+         }
+         int rank = descending ? size - k : k - 1;
+         IntSelect.select(buf, 0, size, rank);
+         return buf[rank];
+      }
+
+      /**
+       * Cuts the buffer back to its distinct values and, if there are more
+       * than capacity of them, to the capacity best.
+       */
+      private void compact() {
+         int d = select.distinct(buf, 0, size);
+         int[] values = select.buffer();
+         if (d >= capacity) {
+            int rank = descending ? d - capacity : capacity - 1;
+            IntSelect.select(values, 0, d, rank);
+            cutoff = values[rank];
+            System.arraycopy(values, descending ? d - capacity : 0,
+                             buf, 0, capacity);
+            size = capacity;
+            full = true;
+         }
+         else {
+            System.arraycopy(values, 0, buf, 0, d);
+            size = d;
+         }
+      }
+   }
+
+}
@@ -0,0 +1,129 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorIntKernel.java. Implements the Selector inner loops with the
+ * incubating Vector API. Min and max reduce lane-wise and combine the lanes
+ * at the end. Range counts matches with a comparison mask, then copies
+ * whole vectors where every lane matches, skips vectors where none do, and
+ * checks lanes one at a time only where some do, so sparse and dense
+ * ranges both avoid a branch per value. The partial case compares the
+ * lanes again rather than reading the mask, because a mask that lives
+ * past the allTrue test is boxed on the heap.
+ *
+ * This class lives apart from the others because it needs
+ * --add-modules jdk.incubator.vector to compile and to run. IntKernels
+ * loads it by name and falls back to scalar loops if it is missing.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class VectorIntKernel implements IntKernel {
+
+   /** the widest vector shape this machine supports. */
+   private static final VectorSpecies<Integer> SPECIES =
+      IntVector.SPECIES_PREFERRED;
+
+   /**
+    * Creates the kernel. Called by IntKernels.
+    */
+   public VectorIntKernel() { }
+
+   @Override
+   public int min(int[] a) {
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      int minValue = a[0];
+      if (bound > 0) {
+         IntVector acc = IntVector.fromArray(SPECIES, a, 0);
+         for (i = SPECIES.length(); i < bound; i += SPECIES.length()) {
+            acc = acc.min(IntVector.fromArray(SPECIES, a, i));
+         }
+         minValue = acc.reduceLanes(VectorOperators.MIN);
+      }
+      for (; i < a.length; i++) {
+         if (a[i] < minValue) {
+            minValue = a[i];
+         }
+      }
+      return minValue;
+   }
+
+   @Override
+   public int max(int[] a) {
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      int maxValue = a[0];
+      if (bound > 0) {
+         IntVector acc = IntVector.fromArray(SPECIES, a, 0);
+         for (i = SPECIES.length(); i < bound; i += SPECIES.length()) {
+            acc = acc.max(IntVector.fromArray(SPECIES, a, i));
+         }
+         maxValue = acc.reduceLanes(VectorOperators.MAX);
+      }
+      for (; i < a.length; i++) {
+         if (a[i] > maxValue) {
+            maxValue = a[i];
+         }
+      }
+      return maxValue;
+   }
+
+   @Override
+   public int rangeCount(int[] a, int low, int high) {
+      int lanes = SPECIES.length();
+      int bound = SPECIES.loopBound(a.length);
+
+      int count = 0;
+      int i = 0;
+      for (; i < bound; i += lanes) {
+         count += inRange(IntVector.fromArray(SPECIES, a, i), low, high)
+            .trueCount();
+      }
+      for (; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+   @Override
+   public void rangeInto(int[] a, int low, int high, int[] out) {
+      int lanes = SPECIES.length();
+      int bound = SPECIES.loopBound(a.length);
+
+      int index = 0;
+      int i = 0;
+      for (; i < bound; i += lanes) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         VectorMask<Integer> m = inRange(v, low, high);
+         if (m.allTrue()) {
+            v.intoArray(out, index);
+            index += lanes;
+         }
+         else if (m.anyTrue()) {
+            for (int lane = i; lane < i + lanes; lane++) {
+               if (a[lane] >= low && a[lane] <= high) {
+                  out[index++] = a[lane];
+               }
+            }
+         }
+      }
+      for (; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            out[index++] = a[i];
+         }
+      }
+   }
+
+   /** Returns the mask of lanes of v that are in [low..high]. */
+   private static VectorMask<Integer> inRange(IntVector v, int low, int high) {
+      return v.compare(VectorOperators.GE, low)
+         .and(v.compare(VectorOperators.LE, high));
+   }
+
+}
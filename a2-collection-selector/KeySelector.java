@@ -0,0 +1,650 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Defines the Selector methods on Collections ordered by a primitive key
+ * rather than a Comparator. Each method pulls the key of every value into a
+ * primitive array once and selects on that array, so no comparator is
+ * called and no key is boxed. The kmin and kmax methods find the kth
+ * distinct key in expected linear time.
+ *
+ * Values are ordered by ascending key, with int and long keys in natural
+ * order and double keys in the order of Double.compare. When several
+ * values share the selected key, the first of them in iteration order is
+ * returned. Exceptions are those of the matching Selector method, with the
+ * key function taking the place of the Comparator. No method changes coll.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class KeySelector {
+
+   /**
+    * Can't instantiate this class.
+    */
+   private KeySelector() { }
+
+
+   /**
+    * Returns the value in the Collection coll with the least int key, as given
+    * by the function key. If several values share that key, the first of them
+    * in iteration order is returned. If either coll or key is null, this method
+    * throws an IllegalArgumentException. If coll is empty, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the minimum is selected
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the least key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T minInt(Collection<T> coll,
+                              ToIntFunction<? super T> key) {
+      return min(intKeys(coll, key));
+   }
+
+   /**
+    * Returns the value in the Collection coll with the greatest int key, as
+    * given by the function key. If several values share that key, the first of
+    * them in iteration order is returned. If either coll or key is null, this
+    * method throws an IllegalArgumentException. If coll is empty, this method
+    * throws a NoSuchElementException. This method will not change coll in any
+    * way.
+    *
+    * @param coll    the Collection from which the maximum is selected
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the greatest key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T maxInt(Collection<T> coll,
+                              ToIntFunction<? super T> key) {
+      return max(intKeys(coll, key));
+   }
+
+   /**
+    * Selects a value from the Collection coll whose int key is the kth least
+    * distinct key, as given by the function key. If several values share that
+    * key, the first of them in iteration order is returned. If either coll or
+    * key is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth minimum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth minimum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the kth least distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kminInt(Collection<T> coll, int k,
+                               ToIntFunction<? super T> key) {
+      return kth(intKeys(coll, key), k, false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose int key is the kth greatest
+    * distinct key, as given by the function key. If several values share that
+    * key, the first of them in iteration order is returned. If either coll or
+    * key is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth maximum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth maximum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the kth greatest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmaxInt(Collection<T> coll, int k,
+                               ToIntFunction<? super T> key) {
+      return kth(intKeys(coll, key), k, true);
+   }
+
+   /**
+    * Returns a new Collection containing all the values in the Collection coll
+    * whose int key, as given by the function key, is greater than or equal to
+    * low and less than or equal to high, in iteration order. Any duplicate
+    * values that are in coll and in the range are also in the returned
+    * Collection. If no values in coll fall into the specified range or if coll
+    * is empty, this method throws a NoSuchElementException. If either coll or
+    * key is null, this method throws an IllegalArgumentException. This method
+    * will not change coll in any way.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param key     the function that gives the int key of each value
+    * @return        a Collection of the values with keys between low and high
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> Collection<T> rangeInt(Collection<T> coll, int low,
+                                            int high,
+                                            ToIntFunction<? super T> key) {
+      return range(intKeys(coll, key), low, high);
+   }
+
+   /**
+    * Returns the value in the Collection coll with the smallest int key, as
+    * given by the function key, that is greater than or equal to target. The
+    * value of target does not have to be the key of any value in coll. If
+    * several values share that key, the first of them in iteration order is
+    * returned. If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no qualifying
+    * value, this method throws a NoSuchElementException. This method will not
+    * change coll in any way.
+    *
+    * @param coll    the Collection from which the ceiling value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the ceiling key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T ceilingInt(Collection<T> coll, int target,
+                                  ToIntFunction<? super T> key) {
+      return ceiling(intKeys(coll, key), target);
+   }
+
+   /**
+    * Returns the value in the Collection coll with the largest int key, as
+    * given by the function key, that is less than or equal to target. The value
+    * of target does not have to be the key of any value in coll. If several
+    * values share that key, the first of them in iteration order is returned.
+    * If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no qualifying
+    * value, this method throws a NoSuchElementException. This method will not
+    * change coll in any way.
+    *
+    * @param coll    the Collection from which the floor value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the int key of each value
+    * @return        the first value in coll with the floor key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T floorInt(Collection<T> coll, int target,
+                                ToIntFunction<? super T> key) {
+      return floor(intKeys(coll, key), target);
+   }
+
+
+   /**
+    * Returns the value in the Collection coll with the least long key, as given
+    * by the function key. If several values share that key, the first of them
+    * in iteration order is returned. If either coll or key is null, this method
+    * throws an IllegalArgumentException. If coll is empty, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the minimum is selected
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the least key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T minLong(Collection<T> coll,
+                               ToLongFunction<? super T> key) {
+      return min(longKeys(coll, key));
+   }
+
+   /**
+    * Returns the value in the Collection coll with the greatest long key, as
+    * given by the function key. If several values share that key, the first of
+    * them in iteration order is returned. If either coll or key is null, this
+    * method throws an IllegalArgumentException. If coll is empty, this method
+    * throws a NoSuchElementException. This method will not change coll in any
+    * way.
+    *
+    * @param coll    the Collection from which the maximum is selected
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the greatest key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T maxLong(Collection<T> coll,
+                               ToLongFunction<? super T> key) {
+      return max(longKeys(coll, key));
+   }
+
+   /**
+    * Selects a value from the Collection coll whose long key is the kth least
+    * distinct key, as given by the function key. If several values share that
+    * key, the first of them in iteration order is returned. If either coll or
+    * key is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no kth minimum key, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth minimum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the kth least distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kminLong(Collection<T> coll, int k,
+                                ToLongFunction<? super T> key) {
+      return kth(longKeys(coll, key), k, false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose long key is the kth
+    * greatest distinct key, as given by the function key. If several values
+    * share that key, the first of them in iteration order is returned. If
+    * either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no kth maximum
+    * key, this method throws a NoSuchElementException. This method will not
+    * change coll in any way.
+    *
+    * @param coll    the Collection from which the kth maximum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the kth greatest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmaxLong(Collection<T> coll, int k,
+                                ToLongFunction<? super T> key) {
+      return kth(longKeys(coll, key), k, true);
+   }
+
+   /**
+    * Returns a new Collection containing all the values in the Collection coll
+    * whose long key, as given by the function key, is greater than or equal to
+    * low and less than or equal to high, in iteration order. Any duplicate
+    * values that are in coll and in the range are also in the returned
+    * Collection. If no values in coll fall into the specified range or if coll
+    * is empty, this method throws a NoSuchElementException. If either coll or
+    * key is null, this method throws an IllegalArgumentException. This method
+    * will not change coll in any way.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param key     the function that gives the long key of each value
+    * @return        a Collection of the values with keys between low and high
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> Collection<T> rangeLong(Collection<T> coll, long low,
+                                             long high,
+                                             ToLongFunction<? super T> key) {
+      return range(longKeys(coll, key), low, high);
+   }
+
+   /**
+    * Returns the value in the Collection coll with the smallest long key, as
+    * given by the function key, that is greater than or equal to target. The
+    * value of target does not have to be the key of any value in coll. If
+    * several values share that key, the first of them in iteration order is
+    * returned. If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no qualifying
+    * value, this method throws a NoSuchElementException. This method will not
+    * change coll in any way.
+    *
+    * @param coll    the Collection from which the ceiling value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the ceiling key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T ceilingLong(Collection<T> coll, long target,
+                                   ToLongFunction<? super T> key) {
+      return ceiling(longKeys(coll, key), target);
+   }
+
+   /**
+    * Returns the value in the Collection coll with the largest long key, as
+    * given by the function key, that is less than or equal to target. The value
+    * of target does not have to be the key of any value in coll. If several
+    * values share that key, the first of them in iteration order is returned.
+    * If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no qualifying
+    * value, this method throws a NoSuchElementException. This method will not
+    * change coll in any way.
+    *
+    * @param coll    the Collection from which the floor value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the long key of each value
+    * @return        the first value in coll with the floor key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T floorLong(Collection<T> coll, long target,
+                                 ToLongFunction<? super T> key) {
+      return floor(longKeys(coll, key), target);
+   }
+
+
+   /**
+    * Returns the value in the Collection coll with the least double key, as
+    * given by the function key. If several values share that key, the first of
+    * them in iteration order is returned. Double keys are ordered as by
+    * Double.compare. If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the minimum is selected
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the least key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T minDouble(Collection<T> coll,
+                                 ToDoubleFunction<? super T> key) {
+      return min(doubleKeys(coll, key));
+   }
+
+   /**
+    * Returns the value in the Collection coll with the greatest double key, as
+    * given by the function key. If several values share that key, the first of
+    * them in iteration order is returned. Double keys are ordered as by
+    * Double.compare. If either coll or key is null, this method throws an
+    * IllegalArgumentException. If coll is empty, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the maximum is selected
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the greatest key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T maxDouble(Collection<T> coll,
+                                 ToDoubleFunction<? super T> key) {
+      return max(doubleKeys(coll, key));
+   }
+
+   /**
+    * Selects a value from the Collection coll whose double key is the kth least
+    * distinct key, as given by the function key. If several values share that
+    * key, the first of them in iteration order is returned. Double keys are
+    * ordered as by Double.compare. If either coll or key is null, this method
+    * throws an IllegalArgumentException. If coll is empty or if there is no kth
+    * minimum key, this method throws a NoSuchElementException. This method will
+    * not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth minimum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the kth least distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kminDouble(Collection<T> coll, int k,
+                                  ToDoubleFunction<? super T> key) {
+      return kth(doubleKeys(coll, key), k, false);
+   }
+
+   /**
+    * Selects a value from the Collection coll whose double key is the kth
+    * greatest distinct key, as given by the function key. If several values
+    * share that key, the first of them in iteration order is returned. Double
+    * keys are ordered as by Double.compare. If either coll or key is null, this
+    * method throws an IllegalArgumentException. If coll is empty or if there is
+    * no kth maximum key, this method throws a NoSuchElementException. This
+    * method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth maximum is selected
+    * @param k       the k-selection value
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the kth greatest distinct key
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmaxDouble(Collection<T> coll, int k,
+                                  ToDoubleFunction<? super T> key) {
+      return kth(doubleKeys(coll, key), k, true);
+   }
+
+   /**
+    * Returns a new Collection containing all the values in the Collection coll
+    * whose double key, as given by the function key, is greater than or equal
+    * to low and less than or equal to high, in iteration order. Any duplicate
+    * values that are in coll and in the range are also in the returned
+    * Collection. Double keys are ordered as by Double.compare. If no values in
+    * coll fall into the specified range or if coll is empty, this method throws
+    * a NoSuchElementException. If either coll or key is null, this method
+    * throws an IllegalArgumentException. This method will not change coll in
+    * any way.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param key     the function that gives the double key of each value
+    * @return        a Collection of the values with keys between low and high
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> Collection<T> rangeDouble(
+         Collection<T> coll, double low, double high,
+         ToDoubleFunction<? super T> key) {
+      return range(doubleKeys(coll, key), sortable(low), sortable(high));
+   }
+
+   /**
+    * Returns the value in the Collection coll with the smallest double key, as
+    * given by the function key, that is greater than or equal to target. The
+    * value of target does not have to be the key of any value in coll. If
+    * several values share that key, the first of them in iteration order is
+    * returned. Double keys are ordered as by Double.compare. If either coll or
+    * key is null, this method throws an IllegalArgumentException. If coll is
+    * empty or if there is no qualifying value, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the ceiling value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the ceiling key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T ceilingDouble(Collection<T> coll, double target,
+                                     ToDoubleFunction<? super T> key) {
+      return ceiling(doubleKeys(coll, key), sortable(target));
+   }
+
+   /**
+    * Returns the value in the Collection coll with the largest double key, as
+    * given by the function key, that is less than or equal to target. The value
+    * of target does not have to be the key of any value in coll. If several
+    * values share that key, the first of them in iteration order is returned.
+    * Double keys are ordered as by Double.compare. If either coll or key is
+    * null, this method throws an IllegalArgumentException. If coll is empty or
+    * if there is no qualifying value, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the floor value is selected
+    * @param target  the reference key
+    * @param key     the function that gives the double key of each value
+    * @return        the first value in coll with the floor key of target
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T floorDouble(Collection<T> coll, double target,
+                                   ToDoubleFunction<? super T> key) {
+      return floor(doubleKeys(coll, key), sortable(target));
+   }
+
+
+   /**
+    * A snapshot of a Collection: its values in iteration order and the
+    * key of each, widened to a long.
+    */
+   private static final class Keys<T> {
+      final Object[] values;
+      final long[] keys;
+
+      Keys(Object[] values, long[] keys) {
+         this.values = values;
+         this.keys = keys;
+      }
+
+      @SuppressWarnings("unchecked")
+      T value(int i) {
+         return (T) values[i];
+      }
+   }
+
+   /** Snapshots coll with int keys. */
+   private static <T> Keys<T> intKeys(Collection<T> coll,
+                                      ToIntFunction<? super T> key) {
+      Object[] values = snapshot(coll, key);
+      long[] keys = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+         @SuppressWarnings("unchecked")
+         T v = (T) values[i];
+         keys[i] = key.applyAsInt(v);
+      }
+      return new Keys<T>(values, keys);
+   }
+
+   /** Snapshots coll with long keys. */
+   private static <T> Keys<T> longKeys(Collection<T> coll,
+                                       ToLongFunction<? super T> key) {
+      Object[] values = snapshot(coll, key);
+      long[] keys = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+         @SuppressWarnings("unchecked")
+         T v = (T) values[i];
+         keys[i] = key.applyAsLong(v);
+      }
+      return new Keys<T>(values, keys);
+   }
+
+   /** Snapshots coll with double keys mapped to order-preserving longs. */
+   private static <T> Keys<T> doubleKeys(Collection<T> coll,
+                                         ToDoubleFunction<? super T> key) {
+      Object[] values = snapshot(coll, key);
+      long[] keys = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+         @SuppressWarnings("unchecked")
+         T v = (T) values[i];
+         keys[i] = sortable(key.applyAsDouble(v));
+      }
+      return new Keys<T>(values, keys);
+   }
+
+   /**
+    * Returns a long that orders like d does under Double.compare: the sign
+    * bit is kept and, for negative values, the other bits are flipped.
+    */
+   private static long sortable(double d) {
+      long bits = Double.doubleToLongBits(d);
+      return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+   }
+
+   /** Checks the arguments shared by every method and copies coll. */
+   private static Object[] snapshot(Collection<?> coll, Object key) {
+      if (coll == null || key == null) {
+         throw new IllegalArgumentException();
+      }
+      Object[] values = coll.toArray();
+      if (values.length == 0) {
+         throw new NoSuchElementException();
+      }
+      return values;
+   }
+
+   /** Returns the first value with the least key. */
+   private static <T> T min(Keys<T> s) {
+      long[] keys = s.keys;
+      int best = 0;
+      for (int i = 1; i < keys.length; i++) {
+         if (keys[i] < keys[best]) {
+            best = i;
+         }
+      }
+      return s.value(best);
+   }
+
+   /** Returns the first value with the greatest key. */
+   private static <T> T max(Keys<T> s) {
+      long[] keys = s.keys;
+      int best = 0;
+      for (int i = 1; i < keys.length; i++) {
+         if (keys[i] > keys[best]) {
+            best = i;
+         }
+      }
+      return s.value(best);
+   }
+
+   /** Returns the first value with the kth least, or greatest, key. */
+   private static <T> T kth(Keys<T> s, int k, boolean fromMax) {
+      long[] keys = s.keys;
+      if (k < 1 || k > keys.length) {
+         throw new NoSuchElementException();
+      }
+      long[] distinct = LongSelect.distinct(keys, keys.length);
+      int d = distinct.length;
+      if (k > d) {
+         throw new NoSuchElementException();
+      }
+      int rank = fromMax ? d - k : k - 1;
+      LongSelect.select(distinct, 0, d, rank);
+      return first(s, distinct[rank]);
+   }
+
+   /** Returns the values with keys in [low..high], in iteration order. */
+   private static <T> Collection<T> range(Keys<T> s, long low, long high) {
+      long[] keys = s.keys;
+      ArrayList<T> valid = new ArrayList<T>();
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] >= low && keys[i] <= high) {
+            valid.add(s.value(i));
+         }
+      }
+      if (valid.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      return valid;
+   }
+
+   /** Returns the first value with the least key >= target. */
+   private static <T> T ceiling(Keys<T> s, long target) {
+      long[] keys = s.keys;
+      int best = -1;
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] >= target && (best < 0 || keys[i] < keys[best])) {
+            best = i;
+         }
+      }
+      if (best < 0) {
+         throw new NoSuchElementException();
+      }
+      return s.value(best);
+   }
+
+   /** Returns the first value with the greatest key <= target. */
+   private static <T> T floor(Keys<T> s, long target) {
+      long[] keys = s.keys;
+      int best = -1;
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] <= target && (best < 0 || keys[i] > keys[best])) {
+            best = i;
+         }
+      }
+      if (best < 0) {
+         throw new NoSuchElementException();
+      }
+      return s.value(best);
+   }
+
+   /** Returns the first value whose key is k. */
+   private static <T> T first(Keys<T> s, long k) {
+      long[] keys = s.keys;
+      int i = 0;
+      while (keys[i] != k) {
+         i++;
+      }
+      return s.value(i);
+   }
+
+}
@@ -0,0 +1,187 @@
+import java.util.Arrays;
+
+/**
+ * LongSelect.java. Selection of the kth distinct value from an array of
+ * longs in expected linear time, used by KeySelector once keys have been
+ * pulled out of a Collection. Distinct values are gathered with an
+ * open-addressing hash table and then placed with introselect: quickselect
+ * with a median-of-medians fallback when the partitioning goes on for too
+ * long.
+ *
+ * This is the long counterpart of IntSelect in a1-array-selector, method
+ * for method, with the int-specific scratch-buffer reuse left out. Each
+ * assignment directory compiles on its own, so the two cannot share code;
+ * a change to the algorithm in one should be made in the other as well.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+final class LongSelect {
+
+   /** Marks an empty slot in the hash table. */
+   private static final long EMPTY = Long.MIN_VALUE;
+
+   /** Ranges at or below this size are finished with insertion sort. */
+   private static final int INSERTION_CUTOFF = 16;
+
+   /**
+    * distinct hashes ranges up to this length; longer ranges are sorted
+    * instead, so the table never passes 2^27 longs and its size never
+    * overflows.
+    */
+   private static final int HASH_LIMIT = 1 << 26;
+
+   /**
+    * Can't instantiate this class.
+    */
+   private LongSelect() { }
+
+   /**
+    * Returns a new array holding the distinct values of a[0..n), in no
+    * particular order. Up to HASH_LIMIT values are hashed into a table at
+    * most half full; more are copied, sorted, and compacted.
+    */
+   static long[] distinct(long[] a, int n) {
+      if (n > HASH_LIMIT) {
+         long[] out = Arrays.copyOf(a, n);
+         Arrays.sort(out);
+         int count = 1;
+         for (int i = 1; i < n; i++) {
+            if (out[i] != out[count - 1]) {
+               out[count++] = out[i];
+            }
+         }
+         return Arrays.copyOf(out, count);
+      }
+      // the least power of two that is at least 2n
+      int tableSize = Integer.highestOneBit(Math.max(2 * n - 1, 1)) << 1;
+      long[] table = new long[tableSize];
+      Arrays.fill(table, EMPTY);
+      int mask = tableSize - 1;
+
+      long[] out = new long[n];
+      int count = 0;
+      boolean sawEmpty = false;
+      for (int i = 0; i < n; i++) {
+         long v = a[i];
+         if (v == EMPTY) {
+            if (!sawEmpty) {
+               sawEmpty = true;
+               out[count++] = v;
+            }
+            continue;
+         }
+         int slot = mix(v) & mask;
+         while (table[slot] != EMPTY && table[slot] != v) {
+            slot = (slot + 1) & mask;
+         }
+         if (table[slot] == EMPTY) {
+            table[slot] = v;
+            out[count++] = v;
+         }
+      }
+      return Arrays.copyOf(out, count);
+   }
+
+   /**
+    * Rearranges x[lo..hi) so that x[rank] holds the value it would hold if
+    * x[lo..hi) were sorted, every value before it is no larger, and every
+    * value after it is no smaller.
+    */
+   static void select(long[] x, int lo, int hi, int rank) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo));
+      hi--;
+      while (hi - lo > INSERTION_CUTOFF) {
+         long pivot;
+         if (depth-- > 0) {
+            pivot = medianOfThree(x, lo, lo + ((hi - lo) >>> 1), hi);
+         }
+         else {
+            pivot = x[medianOfMedians(x, lo, hi)];
+         }
+         // three-way partition: [lo..lt) < pivot, [lt..gt] == pivot
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i <= gt) {
+            if (x[i] < pivot) {
+               swap(x, lt++, i++);
+            }
+            else if (x[i] > pivot) {
+               swap(x, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+         if (rank < lt) {
+            hi = lt - 1;
+         }
+         else if (rank > gt) {
+            lo = gt + 1;
+         }
+         else {
+            return;
+         }
+      }
+      insertionSort(x, lo, hi);
+   }
+
+   /** Spreads the bits of v so nearby values land in different slots. */
+   private static int mix(long v) {
+      long h = v * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+   }
+
+   /** Returns the median of x[i], x[j], and x[k]. */
+   private static long medianOfThree(long[] x, int i, int j, int k) {
+      long a = x[i];
+      long b = x[j];
+      long c = x[k];
+      if (a < b) {
+         return b < c ? b : (a < c ? c : a);
+      }
+      return a < c ? a : (b < c ? c : b);
+   }
+
+   /**
+    * Returns the index of a value in x[lo..hi] that is guaranteed to have
+    * at least 30% of the range on either side of it.
+    */
+   private static int medianOfMedians(long[] x, int lo, int hi) {
+      if (hi - lo < 5) {
+         insertionSort(x, lo, hi);
+         return lo + ((hi - lo) >>> 1);
+      }
+      int m = lo;
+      for (int i = lo; i + 4 <= hi; i += 5) {
+         insertionSort(x, i, i + 4);
+         swap(x, m++, i + 2);
+      }
+      int mid = lo + ((m - 1 - lo) >>> 1);
+      select(x, lo, m, mid);
+      return mid;
+   }
+
+   /** Sorts x[lo..hi] in place. */
+   private static void insertionSort(long[] x, int lo, int hi) {
+      for (int i = lo + 1; i <= hi; i++) {
+         long v = x[i];
+         int j = i - 1;
+         while (j >= lo && x[j] > v) {
+            x[j + 1] = x[j];
+            j--;
+         }
+         x[j + 1] = v;
+      }
+   }
+
+   /** Swaps x[i] and x[j]. */
+   private static void swap(long[] x, int i, int j) {
+      long t = x[i];
+      x[i] = x[j];
+      x[j] = t;
+   }
+
+}
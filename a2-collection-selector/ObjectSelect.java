@@ -0,0 +1,174 @@
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ObjectSelect.java. Finds the kth distinct value, as defined by a
+ * Comparator, in an array snapshot of a Collection. The array is
+ * partitioned in place three ways around a random pivot, so the values
+ * equal to the pivot form exactly one distinct value. The part below the
+ * pivot is searched first; if it cannot hold k distinct values it is sorted
+ * to count them and the search moves on past the pivot. Only the values
+ * below the answer are ever sorted, so the expected cost is O(n + m log m)
+ * where m is the number of values smaller than the answer. Sorting is done
+ * in place by the same partitioning, so no memory is allocated.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+final class ObjectSelect {
+
+   /** Ranges at or below this size are sorted and scanned directly. */
+   private static final int SORT_CUTOFF = 16;
+
+   /**
+    * Can't instantiate this class.
+    */
+   private ObjectSelect() { }
+
+   /**
+    * Rearranges a and returns the index of a value that is the kth
+    * smallest distinct value of a under comp, or -1 if a holds fewer than k
+    * distinct values. Every value before the returned index is smaller
+    * than the value at it, and those values are sorted.
+    */
+   static <T> int kthDistinct(Object[] a, int k, Comparator<? super T> comp) {
+      return kthDistinct(a, a.length, k, comp);
+   }
+
+   /**
+    * Does what kthDistinct(a, k, comp) does, on a[0..n) only.
+    */
+   static <T> int kthDistinct(Object[] a, int n, int k,
+                              Comparator<? super T> comp) {
+      int i = select(a, 0, n, k, comp);
+      return i >= 0 ? i : -1;
+   }
+
+   /**
+    * Looks for the kth distinct value of a[lo..hi). Returns its index if
+    * found; otherwise returns -(d + 1), where d is the number of distinct
+    * values in the range, and leaves the range sorted.
+    */
+   @SuppressWarnings("unchecked")
+   private static <T> int select(Object[] a, int lo, int hi, int k,
+                                 Comparator<? super T> comp) {
+      // distinct values settled below lo on earlier rounds
+      int settled = 0;
+      while (true) {
+         if (hi - lo < k || hi - lo <= SORT_CUTOFF) {
+            int found = sortAndScan(a, lo, hi, k, comp);
+            return found >= 0 ? found : found - settled;
+         }
+
+         T pivot = (T) a[lo + ThreadLocalRandom.current().nextInt(hi - lo)];
+         // three-way partition: [lo..lt) < pivot, [lt..gt) == pivot
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i < gt) {
+            int c = comp.compare((T) a[i], pivot);
+            if (c < 0) {
+               swap(a, lt++, i++);
+            }
+            else if (c > 0) {
+               swap(a, i, --gt);
+            }
+            else {
+               i++;
+            }
+         }
+
+         int found = select(a, lo, lt, k, comp);
+         if (found >= 0) {
+            return found;
+         }
+         int below = -found - 1;
+         if (below + 1 == k) {
+            return lt;
+         }
+         // everything up to gt is now settled: below distinct plus pivot
+         settled += below + 1;
+         k -= below + 1;
+         lo = gt;
+      }
+   }
+
+   /**
+    * Sorts a[lo..hi) and returns the index of its kth distinct value, or
+    * -(d + 1) if it has only d < k distinct values.
+    */
+   @SuppressWarnings("unchecked")
+   private static <T> int sortAndScan(Object[] a, int lo, int hi, int k,
+                                      Comparator<? super T> comp) {
+      if (lo >= hi) {
+         return -1;
+      }
+      sort(a, lo, hi, comp);
+      int d = 1;
+      if (k == 1) {
+         return lo;
+      }
+      for (int i = lo + 1; i < hi; i++) {
+         if (comp.compare((T) a[i], (T) a[i - 1]) != 0) {
+            d++;
+            if (d == k) {
+               return i;
+            }
+         }
+      }
+      return -(d + 1);
+   }
+
+   /**
+    * Sorts a[lo..hi) in place: three-way quicksort on a random pivot,
+    * recursing into the smaller side, with insertion sort for short ranges.
+    */
+   @SuppressWarnings("unchecked")
+   private static <T> void sort(Object[] a, int lo, int hi,
+                                Comparator<? super T> comp) {
+      while (hi - lo > SORT_CUTOFF) {
+         T pivot = (T) a[lo + ThreadLocalRandom.current().nextInt(hi - lo)];
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i < gt) {
+            int c = comp.compare((T) a[i], pivot);
+            if (c < 0) {
+               swap(a, lt++, i++);
+            }
+            else if (c > 0) {
+               swap(a, i, --gt);
+            }
+            else {
+               i++;
+            }
+         }
+         if (lt - lo < hi - gt) {
+            sort(a, lo, lt, comp);
+            lo = gt;
+         }
+         else {
+            sort(a, gt, hi, comp);
+            hi = lt;
+         }
+      }
+      for (int i = lo + 1; i < hi; i++) {
+         T v = (T) a[i];
+         int j = i - 1;
+         while (j >= lo && comp.compare((T) a[j], v) > 0) {
+            a[j + 1] = a[j];
+            j--;
+         }
+         a[j + 1] = v;
+      }
+   }
+
+   /** Swaps a[i] and a[j]. */
+   private static void swap(Object[] a, int i, int j) {
+      Object t = a[i];
+      a[i] = a[j];
+      a[j] = t;
+   }
+
+}
@@ -0,0 +1,633 @@
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * OrderStatisticTree.java. A Collection kept in the total order of a
+ * Comparator, as an AVL tree with one node per distinct value. Values that
+ * are equal under the comparator share a node, so duplicates are allowed
+ * and each node knows how many values it holds. Every node also records
+ * the number of nodes and values in its subtree, which lets the tree answer
+ * the Selector queries by descending from the root: kmin, kmax, ceiling,
+ * and floor in O(log n) time and range in O(log n + m) time for m values.
+ * Adds and removes take O(log n) time.
+ *
+ * Selector checks for this class and, when the Comparator it is given is
+ * this tree's comparator, answers from the tree instead of scanning.
+ *
+ * Iteration is in ascending order, with values that share a node returned
+ * in the order they were added. Null values are not permitted.
+ *
+ * @param <T> the type of values in this collection
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public class OrderStatisticTree<T> extends AbstractCollection<T> {
+
+   /** the total order on T. */
+   private final Comparator<? super T> comp;
+
+   private Node root;
+
+   /** number of structural changes, for fail-fast iterators. */
+   private int modCount;
+
+   /**
+    * Creates an empty tree ordered by comp. This method throws
+    * IllegalArgumentException if comp is null.
+    */
+   public OrderStatisticTree(Comparator<? super T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      this.comp = comp;
+   }
+
+   /**
+    * Creates a tree ordered by comp holding every value in c. This method
+    * throws IllegalArgumentException if comp or c is null or c holds a
+    * null.
+    */
+   public OrderStatisticTree(Collection<? extends T> c,
+                             Comparator<? super T> comp) {
+      this(comp);
+      if (c == null) {
+         throw new IllegalArgumentException();
+      }
+      for (T v : c) {
+         add(v);
+      }
+   }
+
+   /**
+    * Returns the comparator that orders this tree.
+    */
+   public Comparator<? super T> comparator() {
+      return comp;
+   }
+
+   /**
+    * Returns the number of values in this tree, counting duplicates.
+    */
+   @Override
+   public int size() {
+      return size(root);
+   }
+
+   /**
+    * Returns the number of distinct values in this tree.
+    */
+   public int distinctSize() {
+      return nodes(root);
+   }
+
+   /**
+    * Adds v to this tree. This method throws IllegalArgumentException if v
+    * is null.
+    */
+   @Override
+   public boolean add(T v) {
+      if (v == null) {
+         throw new IllegalArgumentException();
+      }
+      root = insert(root, v);
+      modCount++;
+      return true;
+   }
+
+   /**
+    * Removes one value from this tree that is equal to o, if there is one.
+    * The value must both compare equal to o under the comparator and be
+    * equal to o under equals.
+    */
+   @Override
+   @SuppressWarnings("unchecked")
+   public boolean remove(Object o) {
+      if (o == null) {
+         return false;
+      }
+      Node n;
+      try {
+         n = find((T) o);
+      }
+      catch (ClassCastException e) {
+         return false;
+      }
+      if (n == null) {
+         return false;
+      }
+      int i = n.indexOf(o);
+      if (i < 0) {
+         return false;
+      }
+      removeAt(n, i);
+      modCount++;
+      return true;
+   }
+
+   /**
+    * Returns true if this tree holds a value equal to o under both the
+    * comparator and equals.
+    */
+   @Override
+   @SuppressWarnings("unchecked")
+   public boolean contains(Object o) {
+      if (o == null) {
+         return false;
+      }
+      try {
+         Node n = find((T) o);
+         return n != null && n.indexOf(o) >= 0;
+      }
+      catch (ClassCastException e) {
+         return false;
+      }
+   }
+
+   /**
+    * Removes every value from this tree.
+    */
+   @Override
+   public void clear() {
+      root = null;
+      modCount++;
+   }
+
+   /**
+    * Returns the minimum value in this tree. This method throws
+    * NoSuchElementException if the tree is empty.
+    */
+   public T min() {
+      return kmin(1);
+   }
+
+   /**
+    * Returns the maximum value in this tree. This method throws
+    * NoSuchElementException if the tree is empty.
+    */
+   public T max() {
+      return kmax(1);
+   }
+
+   /**
+    * Returns the kth minimum distinct value in this tree. This method
+    * throws NoSuchElementException if there is no kth minimum value.
+    */
+   public T kmin(int k) {
+      if (k < 1 || k > nodes(root)) {
+         throw new NoSuchElementException();
+      }
+      Node n = root;
+      while (true) {
+         int left = nodes(n.left);
+         if (k <= left) {
+            n = n.left;
+         }
+         else if (k == left + 1) {
+            return n.key();
+         }
+         else {
+            k -= left + 1;
+            n = n.right;
+         }
+      }
+   }
+
+   /**
+    * Returns the kth maximum distinct value in this tree. This method
+    * throws NoSuchElementException if there is no kth maximum value.
+    */
+   public T kmax(int k) {
+      if (k < 1 || k > nodes(root)) {
+         throw new NoSuchElementException();
+      }
+      return kmin(nodes(root) - k + 1);
+   }
+
+   /**
+    * Returns the smallest value in this tree that is greater than or equal
+    * to key. This method throws NoSuchElementException if there is none.
+    */
+   public T ceiling(T key) {
+      Node best = null;
+      Node n = root;
+      while (n != null) {
+         int c = comp.compare(key, n.key());
+         if (c == 0) {
+            return n.key();
+         }
+         if (c < 0) {
+            best = n;
+            n = n.left;
+         }
+         else {
+            n = n.right;
+         }
+      }
+      if (best == null) {
+         throw new NoSuchElementException();
+      }
+      return best.key();
+   }
+
+   /**
+    * Returns the largest value in this tree that is less than or equal to
+    * key. This method throws NoSuchElementException if there is none.
+    */
+   public T floor(T key) {
+      Node best = null;
+      Node n = root;
+      while (n != null) {
+         int c = comp.compare(key, n.key());
+         if (c == 0) {
+            return n.key();
+         }
+         if (c > 0) {
+            best = n;
+            n = n.right;
+         }
+         else {
+            n = n.left;
+         }
+      }
+      if (best == null) {
+         throw new NoSuchElementException();
+      }
+      return best.key();
+   }
+
+   /**
+    * Returns a new Collection of the values in [low..high], including
+    * duplicates, in ascending order. The result is empty if no values
+    * qualify.
+    */
+   public Collection<T> range(T low, T high) {
+      ArrayList<T> valid = new ArrayList<T>();
+      rangeInto(low, high, valid);
+      return valid;
+   }
+
+   /**
+    * Adds the values in [low..high], including duplicates, to out in
+    * ascending order and returns how many were added.
+    */
+   public int rangeInto(T low, T high, Collection<? super T> out) {
+      if (comp.compare(low, high) > 0) {
+         return 0;
+      }
+      return collect(root, low, high, out);
+   }
+
+   /**
+    * Returns the number of values in [low..high], including duplicates.
+    */
+   public int rangeCount(T low, T high) {
+      if (comp.compare(low, high) > 0) {
+         return 0;
+      }
+      return countBelow(high, true) - countBelow(low, false);
+   }
+
+   /**
+    * Returns an iterator over the values in this tree in ascending order.
+    * The iterator supports remove.
+    */
+   @Override
+   public Iterator<T> iterator() {
+      return new TreeIterator();
+   }
+
+   /**
+    * Removes the ith value of node n, deleting n if it was the only one.
+    */
+   private void removeAt(Node n, int i) {
+      if (n.count == 1) {
+         root = delete(root, n.key());
+      }
+      else {
+         n.removeAt(i);
+         root = recount(root, n.key());
+      }
+   }
+
+   /** Returns the node whose key is equal to v, or null. */
+   private Node find(T v) {
+      Node n = root;
+      while (n != null) {
+         int c = comp.compare(v, n.key());
+         if (c == 0) {
+            return n;
+         }
+         n = c < 0 ? n.left : n.right;
+      }
+      return null;
+   }
+
+   /** Returns the node with the least key greater than key, or null. */
+   private Node higher(T key) {
+      Node best = null;
+      Node n = root;
+      while (n != null) {
+         if (comp.compare(key, n.key()) < 0) {
+            best = n;
+            n = n.left;
+         }
+         else {
+            n = n.right;
+         }
+      }
+      return best;
+   }
+
+   /**
+    * Returns the number of values less than key, or less than or equal to
+    * key if inclusive is true.
+    */
+   private int countBelow(T key, boolean inclusive) {
+      int count = 0;
+      Node n = root;
+      while (n != null) {
+         int c = comp.compare(key, n.key());
+         if (c > 0 || (c == 0 && inclusive)) {
+            count += size(n.left) + n.count;
+            n = n.right;
+         }
+         else {
+            n = n.left;
+         }
+      }
+      return count;
+   }
+
+   /**
+    * Adds the values of n's subtree in [low..high] to out, in order, and
+    * returns how many were added.
+    */
+   private int collect(Node n, T low, T high, Collection<? super T> out) {
+      if (n == null) {
+         return 0;
+      }
+      int added = 0;
+      boolean aboveLow = comp.compare(n.key(), low) >= 0;
+      boolean belowHigh = comp.compare(n.key(), high) <= 0;
+      if (aboveLow) {
+         added += collect(n.left, low, high, out);
+      }
+      if (aboveLow && belowHigh) {
+         for (int i = 0; i < n.count; i++) {
+            out.add(n.item(i));
+         }
+         added += n.count;
+      }
+      if (belowHigh) {
+         added += collect(n.right, low, high, out);
+      }
+      return added;
+   }
+
+   /** Inserts v below n and returns the rebalanced subtree. */
+   private Node insert(Node n, T v) {
+      if (n == null) {
+         return new Node(v);
+      }
+      int c = comp.compare(v, n.key());
+      if (c == 0) {
+         n.addItem(v);
+      }
+      else if (c < 0) {
+         n.left = insert(n.left, v);
+      }
+      else {
+         n.right = insert(n.right, v);
+      }
+      return balance(n);
+   }
+
+   /** Deletes the node with the given key below n. */
+   private Node delete(Node n, T key) {
+      int c = comp.compare(key, n.key());
+      if (c < 0) {
+         n.left = delete(n.left, key);
+      }
+      else if (c > 0) {
+         n.right = delete(n.right, key);
+      }
+      else {
+         if (n.left == null) {
+            return n.right;
+         }
+         if (n.right == null) {
+            return n.left;
+         }
+         Node successor = n.right;
+         while (successor.left != null) {
+            successor = successor.left;
+         }
+         successor.right = deleteMin(n.right);
+         successor.left = n.left;
+         n = successor;
+      }
+      return balance(n);
+   }
+
+   /** Deletes the least node below n. */
+   private Node deleteMin(Node n) {
+      if (n.left == null) {
+         return n.right;
+      }
+      n.left = deleteMin(n.left);
+      return balance(n);
+   }
+
+   /** Refreshes the counts on the path to the node with the given key. */
+   private Node recount(Node n, T key) {
+      int c = comp.compare(key, n.key());
+      if (c < 0) {
+         n.left = recount(n.left, key);
+      }
+      else if (c > 0) {
+         n.right = recount(n.right, key);
+      }
+      n.update();
+      return n;
+   }
+
+   /** Restores the AVL property at n and returns the new subtree root. */
+   private Node balance(Node n) {
+      n.update();
+      int b = height(n.left) - height(n.right);
+      if (b > 1) {
+         if (height(n.left.left) < height(n.left.right)) {
+            n.left = rotateLeft(n.left);
+         }
+         return rotateRight(n);
+      }
+      if (b < -1) {
+         if (height(n.right.right) < height(n.right.left)) {
+            n.right = rotateRight(n.right);
+         }
+         return rotateLeft(n);
+      }
+      return n;
+   }
+
+   private Node rotateRight(Node n) {
+      Node l = n.left;
+      n.left = l.right;
+      l.right = n;
+      n.update();
+      l.update();
+      return l;
+   }
+
+   private Node rotateLeft(Node n) {
+      Node r = n.right;
+      n.right = r.left;
+      r.left = n;
+      n.update();
+      r.update();
+      return r;
+   }
+
+   private static int height(OrderStatisticTree<?>.Node n) {
+      return n == null ? 0 : n.height;
+   }
+
+   private static int nodes(OrderStatisticTree<?>.Node n) {
+      return n == null ? 0 : n.nodes;
+   }
+
+   private static int size(OrderStatisticTree<?>.Node n) {
+      return n == null ? 0 : n.size;
+   }
+
+   /**
+    * A node holding every value equal to its key, in the order added.
+    */
+   private final class Node {
+      Object[] items;
+      int count;
+      int height;
+      int nodes;
+      int size;
+      Node left;
+      Node right;
+
+      Node(T v) {
+         items = new Object[] {v};
+         count = 1;
+         update();
+      }
+
+      @SuppressWarnings("unchecked")
+      T key() {
+         return (T) items[0];
+      }
+
+      @SuppressWarnings("unchecked")
+      T item(int i) {
+         return (T) items[i];
+      }
+
+      void addItem(T v) {
+         if (count == items.length) {
+            items = java.util.Arrays.copyOf(items, 2 * count);
+         }
+         items[count++] = v;
+      }
+
+      int indexOf(Object o) {
+         for (int i = 0; i < count; i++) {
+            if (Objects.equals(items[i], o)) {
+               return i;
+            }
+         }
+         return -1;
+      }
+
+      void removeAt(int i) {
+         System.arraycopy(items, i + 1, items, i, count - i - 1);
+         items[--count] = null;
+      }
+
+      void update() {
+         height = 1 + Math.max(height(left), height(right));
+         nodes = 1 + nodes(left) + nodes(right);
+         size = count + size(left) + size(right);
+      }
+   }
+
+   /**
+    * Walks the tree in order, finding each next node by a descent from the
+    * root so that removing through the iterator cannot strand it.
+    */
+   private final class TreeIterator implements Iterator<T> {
+      private Node node;
+      private int index;
+      private T lastKey;
+      private boolean canRemove;
+      private int expectedModCount = modCount;
+
+      TreeIterator() {
+         node = root;
+         while (node != null && node.left != null) {
+            node = node.left;
+         }
+      }
+
+      @Override
+      public boolean hasNext() {
+         return node != null;
+      }
+
+      @Override
+      public T next() {
+         if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+         }
+         if (node == null) {
+            throw new NoSuchElementException();
+         }
+         T v = node.item(index++);
+         lastKey = node.key();
+         if (index == node.count) {
+            node = higher(lastKey);
+            index = 0;
+         }
+         canRemove = true;
+         return v;
+      }
+
+      @Override
+      public void remove() {
+         if (!canRemove) {
+            throw new IllegalStateException();
+         }
+         if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+         }
+         canRemove = false;
+         Node n = find(lastKey);
+         if (node == n) {
+            // still inside the same node: the removed value sits just
+            // before index
+            n.removeAt(--index);
+            root = recount(root, n.key());
+         }
+         else {
+            // the removed value was the last of its node
+            removeAt(n, n.count - 1);
+         }
+         modCount++;
+         expectedModCount = modCount;
+      }
+   }
+
+}
@@ -0,0 +1,289 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Defines the Selector methods on large Collections, run in parallel on a
+ * ForkJoinPool. The work is split along the Collection's own Spliterator
+ * until the pieces are no larger than the threshold. Each piece computes a
+ * local candidate (a min, max, ceiling, or floor), a local bounded set of
+ * its k smallest or largest distinct values, or a local list of range
+ * values, and the results are merged as the tasks join. Collections smaller
+ * than the threshold are handed to Selector.
+ *
+ * Results and exceptions are those of the matching Selector method. When
+ * several values are equal under comp, which of them is returned may
+ * differ from Selector. No method changes coll, which must not be changed
+ * by another thread while a method runs.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class ParallelSelector {
+
+   /** The default Collection size below which Selector is used. */
+   public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+   /** marks a piece with no qualifying value. */
+   private static final Object NONE = new Object();
+
+   /** the pool that runs the tasks. */
+   private final ForkJoinPool pool;
+
+   /** the largest piece that is not split further. */
+   private final int threshold;
+
+   /**
+    * Creates a parallel selector on the common pool with the default
+    * threshold.
+    */
+   public ParallelSelector() {
+      this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+   }
+
+   /**
+    * Creates a parallel selector that runs on pool and splits until pieces
+    * hold no more than threshold values. This method throws
+    * IllegalArgumentException if pool is null or threshold is less than 1.
+    */
+   public ParallelSelector(ForkJoinPool pool, int threshold) {
+      if (pool == null || threshold < 1) {
+         throw new IllegalArgumentException();
+      }
+      this.pool = pool;
+      this.threshold = threshold;
+   }
+
+   /**
+    * Returns the minimum value in coll as defined by comp, as Selector.min
+    * does.
+    */
+   public <T> T min(Collection<T> coll, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.min(coll, comp);
+      }
+      return best(coll, comp, null, true);
+   }
+
+   /**
+    * Returns the maximum value in coll as defined by comp, as Selector.max
+    * does.
+    */
+   public <T> T max(Collection<T> coll, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.max(coll, comp);
+      }
+      return best(coll, Collections.reverseOrder(comp), null, true);
+   }
+
+   /**
+    * Returns the smallest value in coll that is greater than or equal to
+    * key, as Selector.ceiling does.
+    */
+   public <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.ceiling(coll, key, comp);
+      }
+      return best(coll, comp, key, false);
+   }
+
+   /**
+    * Returns the largest value in coll that is less than or equal to key,
+    * as Selector.floor does.
+    */
+   public <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.floor(coll, key, comp);
+      }
+      return best(coll, Collections.reverseOrder(comp), key, false);
+   }
+
+   /**
+    * Selects the kth minimum value from coll as defined by comp, as
+    * Selector.kmin does.
+    */
+   public <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.kmin(coll, k, comp);
+      }
+      return kth(coll, k, comp);
+   }
+
+   /**
+    * Selects the kth maximum value from coll as defined by comp, as
+    * Selector.kmax does.
+    */
+   public <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.kmax(coll, k, comp);
+      }
+      return kth(coll, k, Collections.reverseOrder(comp));
+   }
+
+   /**
+    * Returns a new Collection of the values in coll in [low..high] as
+    * defined by comp, as Selector.range does. The values are in encounter
+    * order if coll's Spliterator is ORDERED, and in no set order otherwise.
+    */
+   public <T> Collection<T> range(Collection<T> coll, T low, T high,
+                                  Comparator<T> comp) {
+      check(coll, comp);
+      if (coll.size() < threshold) {
+         return Selector.range(coll, low, high, comp);
+      }
+      ArrayList<T> valid = pool.invoke(new SplitTask<T, ArrayList<T>>(
+         coll.spliterator(),
+         s -> {
+            ArrayList<T> local = new ArrayList<T>();
+            s.forEachRemaining(v -> {
+               if (comp.compare(v, low) >= 0 && comp.compare(v, high) <= 0) {
+                  local.add(v);
+               }
+            });
+            return local;
+         },
+         (left, right) -> {
+            left.addAll(right);
+            return left;
+         }));
+      if (valid.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      return valid;
+   }
+
+   /**
+    * Returns the least value in coll under order that is at or above key,
+    * or the least value of all if unbounded is true.
+    */
+   @SuppressWarnings("unchecked")
+   private <T> T best(Collection<T> coll, Comparator<? super T> order,
+                      T key, boolean unbounded) {
+      Object found = pool.invoke(new SplitTask<T, Object>(
+         coll.spliterator(),
+         s -> {
+            Object[] local = {NONE};
+            s.forEachRemaining(v -> {
+               if ((unbounded || order.compare(v, key) >= 0)
+                     && (local[0] == NONE
+                         || order.compare(v, (T) local[0]) < 0)) {
+                  local[0] = v;
+               }
+            });
+            return local[0];
+         },
+         (left, right) -> {
+            if (left == NONE) {
+               return right;
+            }
+            if (right == NONE) {
+               return left;
+            }
+            return order.compare((T) right, (T) left) < 0 ? right : left;
+         }));
+      if (found == NONE) {
+         throw new NoSuchElementException();
+      }
+      return (T) found;
+   }
+
+   /**
+    * Returns the kth least distinct value in coll under order. Each piece
+    * keeps a TreeSet of its k least distinct values, and merged sets are
+    * cut back to k.
+    */
+   private <T> T kth(Collection<T> coll, int k, Comparator<? super T> order) {
+      if (k <= 0 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      TreeSet<T> least = pool.invoke(new SplitTask<T, TreeSet<T>>(
+         coll.spliterator(),
+         s -> {
+            TreeSet<T> local = new TreeSet<T>(order);
+            s.forEachRemaining(v -> {
+               if (local.size() < k || order.compare(v, local.last()) < 0) {
+                  if (local.add(v) && local.size() > k) {
+                     local.pollLast();
+                  }
+               }
+            });
+            return local;
+         },
+         (left, right) -> {
+            TreeSet<T> into = left.size() >= right.size() ? left : right;
+            TreeSet<T> from = into == left ? right : left;
+            for (T v : from) {
+               if (into.size() < k || order.compare(v, into.last()) < 0) {
+                  if (into.add(v) && into.size() > k) {
+                     into.pollLast();
+                  }
+               }
+            }
+            return into;
+         }));
+      if (least.size() < k) {
+         throw new NoSuchElementException();
+      }
+      return least.last();
+   }
+
+   /** Argument checks shared by all methods. */
+   private static void check(Collection<?> coll, Comparator<?> comp) {
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      if (coll.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+   }
+
+   /**
+    * Splits a Spliterator until its pieces are no larger than threshold,
+    * runs leaf on each piece, and merges the results in encounter order.
+    */
+   private final class SplitTask<T, R> extends RecursiveTask<R> {
+      private static final long serialVersionUID = 1L;
+
+      private final Spliterator<T> spliterator;
+      private final Function<Spliterator<T>, R> leaf;
+      private final BinaryOperator<R> combine;
+
+      SplitTask(Spliterator<T> spliterator, Function<Spliterator<T>, R> leaf,
+                BinaryOperator<R> combine) {
+         this.spliterator = spliterator;
+         this.leaf = leaf;
+         this.combine = combine;
+      }
+
+      @Override
+      protected R compute() {
+         if (spliterator.estimateSize() > threshold) {
+            Spliterator<T> prefix = spliterator.trySplit();
+            if (prefix != null) {
+               SplitTask<T, R> left = new SplitTask<T, R>(prefix, leaf, combine);
+               left.fork();
+               R right = new SplitTask<T, R>(spliterator, leaf, combine)
+                  .compute();
+               return combine.apply(left.join(), right);
+            }
+         }
+         return leaf.apply(spliterator);
+      }
+   }
+
+}
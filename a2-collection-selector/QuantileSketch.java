@@ -0,0 +1,367 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * QuantileSketch.java. Approximates quantiles of a very large number of
+ * values, in the total order defined by a Comparator, in bounded memory
+ * using a KLL sketch. Values are kept in a stack of levels; a value at level
+ * h stands for 2^h of the values seen. When a level fills, it is sorted and
+ * every other value, starting at a random offset, is promoted to the next
+ * level while the rest are dropped. Level capacities shrink by a factor of
+ * 2/3 going down from the top level, which holds k values.
+ *
+ * The normalized rank error is about 2/k with high probability, and the
+ * sketch retains O(k) values however many it has seen. Sketches built on
+ * different threads or shards can be merged as long as they use the same
+ * total order. Unlike Selector.kmin and Selector.kmax, ranks here count
+ * duplicate values.
+ *
+ * A QuantileSketch is not safe for use by more than one thread at a time.
+ *
+ * @param <T> the type of values summarized by this sketch
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class QuantileSketch<T> {
+
+   /** The default accuracy parameter, about 1% rank error. */
+   public static final int DEFAULT_K = 200;
+
+   /** the smallest capacity of any level. */
+   private static final int MIN_CAPACITY = 2;
+
+   /** the accuracy parameter: the capacity of the top level. */
+   private final int k;
+
+   /** the total order on T. */
+   private final Comparator<? super T> comp;
+
+   /** levels[h][0..sizes[h]) are the values kept at level h. */
+   private Object[][] levels = new Object[1][];
+   private int[] sizes = new int[1];
+
+   /** number of values seen, and their min and max. */
+   private long n;
+   private T min;
+   private T max;
+
+   private final Random random;
+
+   /**
+    * Creates an empty sketch with the default accuracy. This method throws
+    * IllegalArgumentException if comp is null.
+    */
+   public QuantileSketch(Comparator<? super T> comp) {
+      this(comp, DEFAULT_K, new Random());
+   }
+
+   /**
+    * Creates an empty sketch with accuracy parameter k whose random
+    * choices come from random, so that runs can be repeated. This method
+    * throws IllegalArgumentException if comp or random is null or if k is
+    * less than 8.
+    */
+   public QuantileSketch(Comparator<? super T> comp, int k, Random random) {
+      if (comp == null || random == null || k < 8) {
+         throw new IllegalArgumentException();
+      }
+      this.comp = comp;
+      this.k = k;
+      this.random = random;
+      levels[0] = new Object[capacity(0)];
+   }
+
+   /**
+    * Creates an empty sketch whose normalized rank error is about epsilon.
+    * This method throws IllegalArgumentException if comp is null or if
+    * epsilon is not in (0, 0.25].
+    */
+   public static <T> QuantileSketch<T> forError(Comparator<? super T> comp,
+                                                double epsilon) {
+      if (!(epsilon > 0 && epsilon <= 0.25)) {
+         throw new IllegalArgumentException();
+      }
+      return new QuantileSketch<T>(comp, (int) Math.ceil(2.0 / epsilon),
+                                   new Random());
+   }
+
+   /**
+    * Adds the value v to this sketch. This method throws
+    * IllegalArgumentException if v is null.
+    */
+   public void update(T v) {
+      if (v == null) {
+         throw new IllegalArgumentException();
+      }
+      if (n == 0) {
+         min = v;
+         max = v;
+      }
+      else if (comp.compare(v, min) < 0) {
+         min = v;
+      }
+      else if (comp.compare(v, max) > 0) {
+         max = v;
+      }
+      n++;
+      append(0, v);
+      if (sizes[0] >= capacity(0)) {
+         compress();
+      }
+   }
+
+   /**
+    * Adds every value in coll to this sketch. This method throws
+    * IllegalArgumentException if coll is null or holds a null.
+    */
+   public void update(Collection<? extends T> coll) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      for (T v : coll) {
+         update(v);
+      }
+   }
+
+   /**
+    * Adds every value seen by other to this sketch. The other sketch must
+    * use the same total order as this one, and is not changed unless it is
+    * this sketch, which then counts each of its values twice. This method
+    * throws IllegalArgumentException if other is null.
+    */
+   public void merge(QuantileSketch<? extends T> other) {
+      if (other == null) {
+         throw new IllegalArgumentException();
+      }
+      if (other.n == 0) {
+         return;
+      }
+      if (n == 0 || comp.compare(other.min, min) < 0) {
+         min = other.min;
+      }
+      if (n == 0 || comp.compare(other.max, max) > 0) {
+         max = other.max;
+      }
+      // snapshot other first: when it is this sketch, append would grow
+      // the very levels being read
+      int levelCount = other.sizes.length;
+      Object[][] kept = new Object[levelCount][];
+      for (int h = 0; h < levelCount; h++) {
+         kept[h] = Arrays.copyOf(other.levels[h], other.sizes[h]);
+      }
+      n += other.n;
+      for (int h = 0; h < levelCount; h++) {
+         for (int i = 0; i < kept[h].length; i++) {
+            append(h, kept[h][i]);
+         }
+      }
+      compress();
+   }
+
+   /**
+    * Returns the number of values seen by this sketch.
+    */
+   public long count() {
+      return n;
+   }
+
+   /**
+    * Returns the number of values this sketch currently keeps.
+    */
+   public int retained() {
+      int r = 0;
+      for (int s : sizes) {
+         r += s;
+      }
+      return r;
+   }
+
+   /**
+    * Returns the exact minimum value seen. This method throws
+    * NoSuchElementException if the sketch is empty.
+    */
+   public T min() {
+      checkNotEmpty();
+      return min;
+   }
+
+   /**
+    * Returns the exact maximum value seen. This method throws
+    * NoSuchElementException if the sketch is empty.
+    */
+   public T max() {
+      checkNotEmpty();
+      return max;
+   }
+
+   /**
+    * Returns the approximate fraction of values seen that are less than or
+    * equal to v. This method throws NoSuchElementException if the sketch is
+    * empty.
+    */
+   @SuppressWarnings("unchecked")
+   public double rank(T v) {
+      checkNotEmpty();
+      long weight = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         for (int i = 0; i < sizes[h]; i++) {
+            if (comp.compare((T) levels[h][i], v) <= 0) {
+               weight += 1L << h;
+            }
+         }
+      }
+      return (double) weight / n;
+   }
+
+   /**
+    * Returns an approximation of the value at fraction q of the sorted
+    * values seen, where 0 gives the min and 1 gives the max. This method
+    * throws NoSuchElementException if the sketch is empty and
+    * IllegalArgumentException if q is not in [0, 1].
+    */
+   public T quantile(double q) {
+      checkNotEmpty();
+      if (!(q >= 0 && q <= 1)) {
+         throw new IllegalArgumentException();
+      }
+      if (q == 0) {
+         return min;
+      }
+      if (q == 1) {
+         return max;
+      }
+      return atWeight((long) Math.ceil(q * n));
+   }
+
+   /**
+    * Returns an approximation of the kth smallest value seen, counting
+    * duplicates. This method throws NoSuchElementException if the sketch is
+    * empty or k is not in [1, count()].
+    */
+   public T kmin(long k) {
+      checkNotEmpty();
+      if (k < 1 || k > n) {
+         throw new NoSuchElementException();
+      }
+      if (k == 1) {
+         return min;
+      }
+      if (k == n) {
+         return max;
+      }
+      return atWeight(k);
+   }
+
+   /**
+    * Returns an approximation of the kth largest value seen, counting
+    * duplicates. This method throws NoSuchElementException if the sketch is
+    * empty or k is not in [1, count()].
+    */
+   public T kmax(long k) {
+      checkNotEmpty();
+      if (k < 1 || k > n) {
+         throw new NoSuchElementException();
+      }
+      return kmin(n - k + 1);
+   }
+
+   /**
+    * Returns the smallest kept value whose cumulative weight, with all
+    * kept values in ascending order, reaches target. Each level is sorted
+    * on its own and the levels are merged by taking the least head.
+    */
+   @SuppressWarnings("unchecked")
+   private T atWeight(long target) {
+      int levelCount = sizes.length;
+      Object[][] sorted = new Object[levelCount][];
+      for (int h = 0; h < levelCount; h++) {
+         sorted[h] = Arrays.copyOf(levels[h], sizes[h]);
+         Arrays.sort((T[]) sorted[h], comp);
+      }
+      int[] next = new int[levelCount];
+      long weight = 0;
+      while (true) {
+         int best = -1;
+         for (int h = 0; h < levelCount; h++) {
+            if (next[h] < sorted[h].length && (best < 0
+                  || comp.compare((T) sorted[h][next[h]],
+                                  (T) sorted[best][next[best]]) < 0)) {
+               best = h;
+            }
+         }
+         if (best < 0) {
+            return max;
+         }
+         weight += 1L << best;
+         if (weight >= target) {
+            return (T) sorted[best][next[best]];
+         }
+         next[best]++;
+      }
+   }
+
+   /** Appends v to level h, adding levels as needed. */
+   private void append(int h, Object v) {
+      while (h >= sizes.length) {
+         addLevel();
+      }
+      if (sizes[h] == levels[h].length) {
+         levels[h] = Arrays.copyOf(levels[h], Math.max(MIN_CAPACITY,
+                                                        2 * sizes[h]));
+      }
+      levels[h][sizes[h]++] = v;
+   }
+
+   /** Adds an empty level on top of the stack. */
+   private void addLevel() {
+      int h = sizes.length;
+      levels = Arrays.copyOf(levels, h + 1);
+      sizes = Arrays.copyOf(sizes, h + 1);
+      levels[h] = new Object[MIN_CAPACITY];
+   }
+
+   /**
+    * Compacts every level, from the bottom up, that is at or over its
+    * capacity.
+    */
+   @SuppressWarnings("unchecked")
+   private void compress() {
+      for (int h = 0; h < sizes.length; h++) {
+         if (sizes[h] >= capacity(h)) {
+            if (h + 1 == sizes.length) {
+               addLevel();
+            }
+            Object[] level = levels[h];
+            int size = sizes[h];
+            Arrays.sort((T[]) level, 0, size, comp);
+            // an odd value out stays behind at this level
+            int keep = size & 1;
+            for (int i = keep + random.nextInt(2); i < size; i += 2) {
+               append(h + 1, level[i]);
+            }
+            Arrays.fill(level, keep, size, null);
+            sizes[h] = keep;
+         }
+      }
+   }
+
+   /** Returns the capacity of level h. */
+   private int capacity(int h) {
+      int depth = sizes.length - 1 - h;
+      return Math.max(MIN_CAPACITY,
+                      (int) Math.ceil(k * Math.pow(2.0 / 3.0, depth)));
+   }
+
+   /** Throws NoSuchElementException if this sketch is empty. */
+   private void checkNotEmpty() {
+      if (n == 0) {
+         throw new NoSuchElementException();
+      }
+   }
+
+}
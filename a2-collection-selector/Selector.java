@@ -1,9 +1,15 @@
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 /**
  * Defines a library of selection methods on Collections.
@@ -15,6 +21,9 @@ import java.util.NoSuchElementException;
  */
 public final class Selector {
 
+   /** kSmallest and kLargest keep a bounded TreeSet up to this k. */
+   private static final int SMALL_K = 32;
+
 /**
  * Can't instantiate this class.
  *
@@ -46,6 +55,12 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.min();
+      }
+      
       Iterator<T> itr = coll.iterator();
       T min = (T)itr.next();
       // Sets value at 0 index and moves index to 1
@@ -83,6 +98,12 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.max();
+      }
+      
       Iterator<T> itr = coll.iterator();
       T max = (T)itr.next();
       // Sets value at 0 index and moves index to 1
@@ -130,62 +151,24 @@ public final class Selector {
          throw new NoSuchElementException();
       }
      
-     // create editable array list from coll
-      ArrayList<T> minList = new ArrayList<T>(coll);
-     
-     // sort array list to find dupes
-      java.util.Collections.<T>sort(minList, comp);
-      
-      // keeping track of distinct values
-      int increase = 1;
-      
-      // tracks last item in collection
-      T lastVal = minList.get(0);
-      
-      // loop to compare each element and count distinct values
-      for (T i : minList) {
-         if (comp.compare(i, lastVal) != 0) {
-            increase++;
-            lastVal = i;
-         }
-      }
-      
-      if (k > increase) {
-         throw new NoSuchElementException();
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.kmin(k);
       }
       
-      // sets distinct value back to 1
-      increase = 1;
-      lastVal = minList.get(0);
-      
-      if (minList.size() != 1 && comp.compare(minList.get(0),
-         minList.get(minList.size() -1)) < 0) {
-         
-         for(int i = 0; i > minList.size(); i++) {
-            if (increase == k) {
-               return lastVal;
-            }
-            if (comp.compare(lastVal, minList.get(i)) != 0) {
-               increase++;
-               lastVal = minList.get(i);
-            }
-         }
-      }
+      // snapshot coll and find the kth distinct value in place
+      Object[] values = coll.toArray();
+      int i = ObjectSelect.kthDistinct(values, k, comp);
       
-      if (minList.size() != 1) {
-         for (T i : minList) {
-            if (increase == k) {
-               return lastVal;
-            }
-            if (comp.compare(lastVal, i) != 0) {
-               increase++;
-               lastVal = i;
-            }
-         }
+      if (i < 0) {
+         throw new NoSuchElementException();
       }
       
-     
-      return lastVal;
+      // values holds only elements of coll, so values[i] is a T
+      @SuppressWarnings("unchecked")
+      T kth = (T) values[i];
+      return kth;
    }
 
 
@@ -222,62 +205,103 @@ public final class Selector {
          throw new NoSuchElementException();
       }
      
-     // create array list from coll
-      ArrayList<T> maxList = new ArrayList<T>(coll);
-     
-     // sort array list to find dupes
-      java.util.Collections.<T>sort(maxList, comp);
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.kmax(k);
+      }
       
-      int in = 1;
-      T lastVal = maxList.get(0);
+      // kth maximum is the kth minimum in the reverse order
+      Object[] values = coll.toArray();
+      int i = ObjectSelect.kthDistinct(values, k,
+         Collections.<T>reverseOrder(comp));
       
-      for (T i : maxList) {
-         if (comp.compare(i, lastVal) != 0) {
-            in++;
-            lastVal = i;
-         }
+      if (i < 0) {
+         throw new NoSuchElementException();
       }
       
-      if (maxList.size() == 1) {
-         return lastVal;
+      // values holds only elements of coll, so values[i] is a T
+      @SuppressWarnings("unchecked")
+      T kth = (T) values[i];
+      return kth;
+   }
+
+
+   /**
+    * Returns a new List of the k smallest distinct values in the Collection
+    * coll as defined by the Comparator comp, in ascending order, so that
+    * element i is the (i + 1)th minimum value. If either coll or comp is
+    * null, this method throws an IllegalArgumentException. If coll is empty
+    * or if there is no kth minimum value, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the values are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k smallest distinct values in coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> List<T> kSmallest(Collection<T> coll, int k,
+                                       Comparator<T> comp) {
+   
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
       }
       
-      in = 1;
-      lastVal = maxList.get(maxList.size() - 1);
+      if (coll.isEmpty() || k <= 0 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
       
-      if (maxList.size() != 1 && comp.compare(maxList.get(0),
-         maxList.get(maxList.size() -1)) < 0) {
-         
-         for(int i = maxList.size() - 1; i > -1; i--) {
-            if (in == k) {
-               return lastVal;
-            }
-            if (comp.compare(lastVal, maxList.get(i)) != 0) {
-               in++;
-               lastVal = maxList.get(i);
-            }
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         ArrayList<T> least = new ArrayList<T>(k);
+         for (int i = 1; i <= k; i++) {
+            least.add(tree.kmin(i));
          }
+         return least;
       }
       
-      if (maxList.size() != 1) {
-         for (T i : maxList) {
-            if (in == k) {
-               return lastVal;
-            }
-            if (comp.compare(lastVal, i) != 0) {
-               in++;
-               lastVal = i;
-            }
-         }
+      return extremes(coll, k, comp);
+   }
+
+
+   /**
+    * Returns a new List of the k largest distinct values in the Collection
+    * coll as defined by the Comparator comp, in descending order, so that
+    * element i is the (i + 1)th maximum value. If either coll or comp is
+    * null, this method throws an IllegalArgumentException. If coll is empty
+    * or if there is no kth maximum value, this method throws a
+    * NoSuchElementException. This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the values are selected
+    * @param k       the number of values to select
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the k largest distinct values in coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> List<T> kLargest(Collection<T> coll, int k,
+                                      Comparator<T> comp) {
+   
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
       }
       
-      // checking if k > distinct values
-      if (k > in) {
+      if (coll.isEmpty() || k <= 0 || k > coll.size()) {
          throw new NoSuchElementException();
       }
       
-     
-      return lastVal;
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         ArrayList<T> greatest = new ArrayList<T>(k);
+         for (int i = 1; i <= k; i++) {
+            greatest.add(tree.kmax(i));
+         }
+         return greatest;
+      }
+      
+      return extremes(coll, k, Collections.reverseOrder(comp));
    }
 
 
@@ -311,12 +335,18 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      ArrayList<T> valid = new ArrayList<T>();
-      ArrayList<T> rangeList = new ArrayList<T>(coll);
-      
-      for (T i : rangeList) {
-         if (comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0) {
-            valid.add(i);
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      Collection<T> valid;
+      if (tree != null) {
+         valid = tree.range(low, high);
+      }
+      else {
+         valid = new ArrayList<T>();
+         for (T i : coll) {
+            if (comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0) {
+               valid.add(i);
+            }
          }
       }
       
@@ -329,6 +359,236 @@ public final class Selector {
    }
 
 
+   /**
+    * Selects the kth minimum value from the Collection coll as defined by the
+    * Comparator comp, as kmin(coll, k, comp) does, but snapshots coll into
+    * the buffer of the workspace ws instead of a new array. Once ws fits
+    * coll, no memory is allocated when coll is a RandomAccess List or an
+    * OrderStatisticTree. If coll, comp, or ws is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no kth
+    * minimum value, this method throws a NoSuchElementException. This
+    * method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth minimum is selected
+    * @param k       the k-selection value
+    * @param comp    the Comparator that defines the total order on T
+    * @param ws      the workspace that holds the snapshot of coll
+    * @return        the kth minimum value in coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmin(Collection<T> coll, int k, Comparator<T> comp,
+                            SelectorWorkspace ws) {
+   
+      if (ws == null) {
+         throw new IllegalArgumentException();
+      }
+      return kth(coll, k, comp, comp, ws);
+   }
+
+
+   /**
+    * Selects the kth maximum value from the Collection coll as defined by the
+    * Comparator comp, as kmax(coll, k, comp) does, but snapshots coll into
+    * the buffer of the workspace ws instead of a new array. Once ws fits
+    * coll, no memory is allocated when coll is a RandomAccess List or an
+    * OrderStatisticTree. If coll, comp, or ws is null, this method throws an
+    * IllegalArgumentException. If coll is empty or if there is no kth
+    * maximum value, this method throws a NoSuchElementException. This
+    * method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the kth maximum is selected
+    * @param k       the k-selection value
+    * @param comp    the Comparator that defines the total order on T
+    * @param ws      the workspace that holds the snapshot of coll
+    * @return        the kth maximum value in coll
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> T kmax(Collection<T> coll, int k, Comparator<T> comp,
+                            SelectorWorkspace ws) {
+   
+      if (ws == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return kth(coll, k, comp, ws.reversed(comp), ws);
+   }
+
+
+   /**
+    * Adds all the values in the Collection coll that are greater than or
+    * equal to low and less than or equal to high, as defined by the
+    * Comparator comp, to the Collection out, and returns how many were
+    * added. Apart from where the values go, this method behaves as
+    * range(coll, low, high, comp). No memory is allocated when coll is a
+    * RandomAccess List or an OrderStatisticTree and out already has room
+    * for the values. If coll, comp, or out is null, this method throws an
+    * IllegalArgumentException. If coll is empty or no values in coll fall
+    * into the specified range, this method throws a NoSuchElementException.
+    * This method will not change coll in any way.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param comp    the Comparator that defines the total order on T
+    * @param out     the Collection to which the range values are added
+    * @return        the number of values added to out
+    * @throws        IllegalArgumentException as per above
+    * @throws        NoSuchElementException as per above
+    */
+   public static <T> int range(Collection<T> coll, T low, T high,
+                               Comparator<T> comp, Collection<? super T> out) {
+   
+      if (coll == null || comp == null || out == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (coll.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      
+      int added = 0;
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         added = tree.rangeInto(low, high, out);
+      }
+      else if (coll instanceof List && coll instanceof RandomAccess) {
+         List<T> list = (List<T>) coll;
+         for (int i = 0; i < list.size(); i++) {
+            T value = list.get(i);
+            if (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0) {
+               out.add(value);
+               added++;
+            }
+         }
+      }
+      else {
+         for (T i : coll) {
+            if (comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0) {
+               out.add(i);
+               added++;
+            }
+         }
+      }
+      
+      if (added == 0) {
+         throw new NoSuchElementException();
+      }
+      
+      return added;
+   }
+
+
+   /**
+    * Returns a view of the values in the Collection coll that are greater
+    * than or equal to low and less than or equal to high, as defined by the
+    * Comparator comp. Nothing is copied: the view filters coll each time it
+    * is iterated, so it reflects later changes to coll, and its size method
+    * takes linear time. If coll is a NavigableSet ordered by comp, the view
+    * is the set's own subSet. Unlike range, this method returns an empty
+    * view rather than throwing a NoSuchElementException when no values
+    * qualify. If either coll or comp is null, this method throws an
+    * IllegalArgumentException. The view cannot be used to change coll.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param comp    the Comparator that defines the total order on T
+    * @return        a view of the values in coll between low and high
+    * @throws        IllegalArgumentException as per above
+    */
+   public static <T> Collection<T> rangeView(Collection<T> coll, T low, T high,
+                                             Comparator<T> comp) {
+   
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp.compare(low, high) > 0) {
+         return Collections.emptyList();
+      }
+      
+      NavigableSet<T> set = navigable(coll, comp);
+      if (set != null) {
+         return Collections.unmodifiableNavigableSet(
+            set.subSet(low, true, high, true));
+      }
+      
+      return new RangeView<T>(coll, low, high, comp);
+   }
+
+
+   /**
+    * Returns a Stream of the values in the Collection coll that are greater
+    * than or equal to low and less than or equal to high, as defined by the
+    * Comparator comp. The Stream filters coll lazily, in coll's own
+    * encounter order, and may be made parallel. If coll is a NavigableSet
+    * ordered by comp, only its subSet is streamed. The Stream is empty if no
+    * values qualify. If either coll or comp is null, this method throws an
+    * IllegalArgumentException.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param comp    the Comparator that defines the total order on T
+    * @return        a Stream of the values in coll between low and high
+    * @throws        IllegalArgumentException as per above
+    */
+   public static <T> Stream<T> rangeStream(Collection<T> coll, T low, T high,
+                                           Comparator<T> comp) {
+   
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp.compare(low, high) > 0) {
+         return Stream.empty();
+      }
+      
+      NavigableSet<T> set = navigable(coll, comp);
+      if (set != null) {
+         return set.subSet(low, true, high, true).stream();
+      }
+      
+      return coll.stream().filter(
+         i -> comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0);
+   }
+
+
+   /**
+    * Returns a view of the values in the List sorted that are greater than
+    * or equal to low and less than or equal to high, as defined by the
+    * Comparator comp. The List must already be sorted in ascending order by
+    * comp; the bounds of the range are found by binary search and the view
+    * is a subList, so nothing is copied. The List should support fast
+    * random access. The view is empty if no values qualify. If either
+    * sorted or comp is null, this method throws an IllegalArgumentException.
+    *
+    * @param sorted  the List, sorted by comp, from which values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param comp    the Comparator that defines the total order on T
+    * @return        a subList view of the values between low and high
+    * @throws        IllegalArgumentException as per above
+    */
+   public static <T> List<T> sortedRange(List<T> sorted, T low, T high,
+                                         Comparator<T> comp) {
+   
+      if (sorted == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp.compare(low, high) > 0) {
+         return Collections.emptyList();
+      }
+      
+      // first index at or above low, first index above high
+      int from = bound(sorted, low, comp, false);
+      int to = bound(sorted, high, comp, true);
+      return Collections.unmodifiableList(sorted.subList(from, to));
+   }
+
+
    /**
     * Returns the smallest value in the Collection coll that is greater than
     * or equal to key, as defined by the Comparator comp. The value of key
@@ -354,26 +614,25 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      ArrayList<T> valid = new ArrayList<T>();
-      ArrayList<T> newList = new ArrayList<T>(coll);
-      
-      for (T i : newList) {
-         if (comp.compare(i, key) >= 0) {
-            valid.add(i);
-         }
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.ceiling(key);
       }
       
-      Iterator<T> itr = valid.iterator();
-      T ceiling = (T)itr.next();
+      // single pass: keep the least value at or above key
+      boolean found = false;
+      T ceiling = null;
       
-      while (itr.hasNext()) {
-         T nextVal = (T)itr.next();
-         if (comp.compare(nextVal, ceiling) < 0) {
-            ceiling = nextVal;
+      for (T i : coll) {
+         if (comp.compare(i, key) >= 0
+            && (!found || comp.compare(i, ceiling) < 0)) {
+            ceiling = i;
+            found = true;
          }
       }
       
-      if (valid.size() == 0) {
+      if (!found) {
          throw new NoSuchElementException();
       }
       
@@ -406,31 +665,228 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      ArrayList<T> valid = new ArrayList<T>();
-      ArrayList<T> newList = new ArrayList<T>(coll);
+      // answer from the tree when coll is one ordered by comp
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return tree.floor(key);
+      }
+      
+      // single pass: keep the greatest value at or below key
+      boolean found = false;
+      T floor = null;
       
-      for (T i : newList) {
-         if (comp.compare(i, key) <= 0) {
-            valid.add(i);
+      for (T i : coll) {
+         if (comp.compare(i, key) <= 0
+            && (!found || comp.compare(i, floor) > 0)) {
+            floor = i;
+            found = true;
          }
       }
       
-      Iterator<T> itr = valid.iterator();
-      T floor = (T)itr.next();
+      if (!found) {
+         throw new NoSuchElementException();
+      }
       
-      while (itr.hasNext()) {
-         T nextVal = (T)itr.next();
-         if (comp.compare(nextVal, floor) > 0) {
-            floor = nextVal;
+      return floor;
+   }
+
+
+   /**
+    * Returns coll as an OrderStatisticTree if it is one ordered by comp,
+    * or null if it is not.
+    */
+   private static <T> OrderStatisticTree<T> tree(Collection<T> coll,
+                                                 Comparator<T> comp) {
+      if (coll instanceof OrderStatisticTree) {
+         OrderStatisticTree<T> tree = (OrderStatisticTree<T>) coll;
+         if (tree.comparator().equals(comp)) {
+            return tree;
          }
       }
+      return null;
+   }
+
+
+   /**
+    * Returns the k least distinct values in coll under order, in order.
+    * Small k keep a bounded TreeSet in one pass over coll. Larger k find
+    * the kth distinct value with ObjectSelect, which leaves the values
+    * below it sorted in front of it, and read them off.
+    */
+   private static <T> List<T> extremes(Collection<T> coll, int k,
+                                       Comparator<? super T> order) {
+      ArrayList<T> least = new ArrayList<T>(k);
+      if (k <= SMALL_K) {
+         TreeSet<T> bounded = new TreeSet<T>(order);
+         for (T i : coll) {
+            if (bounded.size() < k || order.compare(i, bounded.last()) < 0) {
+               if (bounded.add(i) && bounded.size() > k) {
+                  bounded.pollLast();
+               }
+            }
+         }
+         if (bounded.size() < k) {
+            throw new NoSuchElementException();
+         }
+         least.addAll(bounded);
+         return least;
+      }
       
-      if (valid.size() == 0) {
+      Object[] values = coll.toArray();
+      int kth = ObjectSelect.kthDistinct(values, k, order);
+      if (kth < 0) {
+         throw new NoSuchElementException();
+      }
+      // values[0..kth] holds only elements of coll, so each is a T
+      for (int i = 0; i <= kth; i++) {
+         @SuppressWarnings("unchecked")
+         T value = (T) values[i];
+         if (least.isEmpty()
+               || order.compare(value, least.get(least.size() - 1)) != 0) {
+            least.add(value);
+         }
+      }
+      return least;
+   }
+
+
+   /**
+    * Selects the kth least distinct value in coll under order, which is
+    * comp or its reverse, using the buffer of ws for the snapshot.
+    */
+   private static <T> T kth(Collection<T> coll, int k, Comparator<T> comp,
+                            Comparator<T> order, SelectorWorkspace ws) {
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (coll.isEmpty() || k <= 0 || k > coll.size()) {
+         throw new NoSuchElementException();
+      }
+      
+      OrderStatisticTree<T> tree = tree(coll, comp);
+      if (tree != null) {
+         return order == comp ? tree.kmin(k) : tree.kmax(k);
+      }
+      
+      int n = ws.fill(coll);
+      Object[] values = ws.buffer();
+      int i = ObjectSelect.kthDistinct(values, n, k, order);
+      // values[0..n) holds only elements of coll, so values[i] is a T
+      @SuppressWarnings("unchecked")
+      T kth = i < 0 ? null : (T) values[i];
+      ws.clear(n);
+      
+      if (i < 0) {
          throw new NoSuchElementException();
       }
+      
+      return kth;
+   }
+
+
+   /**
+    * Returns coll as a NavigableSet if it is one ordered by comp, or null
+    * if it is not.
+    */
+   private static <T> NavigableSet<T> navigable(Collection<T> coll,
+                                                Comparator<T> comp) {
+      if (coll instanceof NavigableSet) {
+         NavigableSet<T> set = (NavigableSet<T>) coll;
+         if (comp.equals(set.comparator())) {
+            return set;
+         }
+      }
+      return null;
+   }
+
+
+   /**
+    * Returns the first index in sorted whose value is greater than key, if
+    * above is true, or greater than or equal to key otherwise.
+    */
+   private static <T> int bound(List<T> sorted, T key, Comparator<T> comp,
+                                boolean above) {
+      int lo = 0;
+      int hi = sorted.size();
+      while (lo < hi) {
+         int mid = (lo + hi) >>> 1;
+         int c = comp.compare(sorted.get(mid), key);
+         if (c < 0 || (above && c == 0)) {
+            lo = mid + 1;
+         }
+         else {
+            hi = mid;
+         }
+      }
+      return lo;
+   }
+
+
+   /**
+    * A read-only view of the values of a Collection in [low..high],
+    * filtered as it is iterated.
+    */
+   private static final class RangeView<T> extends AbstractCollection<T> {
+      private final Collection<T> coll;
+      private final T low;
+      private final T high;
+      private final Comparator<T> comp;
    
+      RangeView(Collection<T> coll, T low, T high, Comparator<T> comp) {
+         this.coll = coll;
+         this.low = low;
+         this.high = high;
+         this.comp = comp;
+      }
    
-      return floor;
+      @Override
+      public Iterator<T> iterator() {
+         return new Iterator<T>() {
+            private final Iterator<T> itr = coll.iterator();
+            private T next;
+            private boolean ready;
+         
+            @Override
+            public boolean hasNext() {
+               while (!ready && itr.hasNext()) {
+                  T i = itr.next();
+                  if (comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0) {
+                     next = i;
+                     ready = true;
+                  }
+               }
+               return ready;
+            }
+         
+            @Override
+            public T next() {
+               if (!hasNext()) {
+                  throw new NoSuchElementException();
+               }
+               ready = false;
+               T i = next;
+               next = null;
+               return i;
+            }
+         };
+      }
+   
+      @Override
+      public int size() {
+         int count = 0;
+         for (T i : coll) {
+            if (comp.compare(i, low) >= 0 && comp.compare(i, high) <= 0) {
+               count++;
+            }
+         }
+         return count;
+      }
+   
+      @Override
+      public boolean isEmpty() {
+         return !iterator().hasNext();
+      }
    }
 
 }
@@ -0,0 +1,106 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * SelectorWorkspace.java. Scratch space for the Selector methods that
+ * would otherwise copy the Collection on every call. A caller that makes
+ * many selections keeps one workspace and passes it to the Selector
+ * overloads that take one. The snapshot buffer grows to fit the largest
+ * Collection seen and is reused after that.
+ *
+ * Once the buffer fits a Collection, calls on a List that implements
+ * RandomAccess, or on an OrderStatisticTree, allocate nothing: values are
+ * read with get rather than through an iterator. Other Collections are
+ * read through their iterator, which is the only allocation left and which
+ * the JIT can usually remove. The buffer is cleared after each call so
+ * that the workspace does not keep values alive.
+ *
+ * A workspace must not be used by more than one thread at a time.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class SelectorWorkspace {
+
+   /** the snapshot of the Collection being selected from. */
+   private Object[] buf;
+
+   /** the last comparator reversed, and its reverse. */
+   private Comparator<?> forward;
+   private Comparator<?> reversed;
+
+   /**
+    * Creates a workspace with an empty buffer.
+    */
+   public SelectorWorkspace() {
+      this(0);
+   }
+
+   /**
+    * Creates a workspace whose buffer already fits Collections of size n.
+    * This method throws IllegalArgumentException if n is negative.
+    */
+   public SelectorWorkspace(int n) {
+      if (n < 0) {
+         throw new IllegalArgumentException();
+      }
+      buf = new Object[n];
+   }
+
+   /**
+    * Copies the values of coll into the front of the buffer and returns
+    * how many there are.
+    */
+   int fill(Collection<?> coll) {
+      int n = coll.size();
+      if (buf.length < n) {
+         buf = new Object[n];
+      }
+      if (coll instanceof List && coll instanceof RandomAccess) {
+         List<?> list = (List<?>) coll;
+         for (int i = 0; i < n; i++) {
+            buf[i] = list.get(i);
+         }
+      }
+      else {
+         int i = 0;
+         for (Object v : coll) {
+            buf[i++] = v;
+         }
+      }
+      return n;
+   }
+
+   /**
+    * Returns the buffer filled in by the last call to fill.
+    */
+   Object[] buffer() {
+      return buf;
+   }
+
+   /**
+    * Drops the references held in the first n slots of the buffer.
+    */
+   void clear(int n) {
+      Arrays.fill(buf, 0, n, null);
+   }
+
+   /**
+    * Returns the reverse of comp, made once and kept for as long as the
+    * same comp is passed in.
+    */
+   @SuppressWarnings("unchecked")
+   <T> Comparator<T> reversed(Comparator<T> comp) {
+      if (forward != comp) {
+         forward = comp;
+         reversed = Collections.reverseOrder(comp);
+      }
+      return (Comparator<T>) reversed;
+   }
+
+}
@@ -0,0 +1,179 @@
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * CompactLines.java. Holds line segments of collinear points without
+ * building a Line for each. A segment is stored as the indexes of its first
+ * and last points in the source coordinate arrays, the exact slope key of
+ * its direction, and the number of points on it, all in primitive arrays.
+ * A segment is added at most once however many times it is found, so
+ * memory grows with the number of distinct segments. Points and full Line
+ * objects are built only on demand.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class CompactLines {
+
+   /** marks an empty slot in the segment index. */
+   private static final long EMPTY = -1L;
+
+   /** the coordinates of the points the segments index into. */
+   private final int[] xs;
+   private final int[] ys;
+
+   /** first and last point indexes, slope keys, and point counts. */
+   private int[] firsts = new int[16];
+   private int[] lasts = new int[16];
+   private long[] keys = new long[16];
+   private int[] counts = new int[16];
+   private int size;
+
+   /** open-addressing set of (first, last) pairs already held. */
+   private long[] index = new long[32];
+
+   /**
+    * Creates an empty set of segments over the points (xs[i], ys[i]). The
+    * arrays are not copied.
+    */
+   CompactLines(int[] xs, int[] ys) {
+      this.xs = xs;
+      this.ys = ys;
+      Arrays.fill(index, EMPTY);
+   }
+
+   /**
+    * Adds the segment from point first to point last, with slope key
+    * key and count points on it, unless a segment with the same first and
+    * last points is already held. Returns true if the segment was added.
+    */
+   boolean add(int first, int last, long key, int count) {
+      long pair = ((long) first << 32) | last;
+      int mask = index.length - 1;
+      long h = pair * 0x9E3779B97F4A7C15L;
+      int slot = (int) (h ^ (h >>> 32)) & mask;
+      while (index[slot] != EMPTY) {
+         if (index[slot] == pair) {
+            return false;
+         }
+         slot = (slot + 1) & mask;
+      }
+      index[slot] = pair;
+
+      if (size == firsts.length) {
+         int capacity = size * 2;
+         firsts = Arrays.copyOf(firsts, capacity);
+         lasts = Arrays.copyOf(lasts, capacity);
+         keys = Arrays.copyOf(keys, capacity);
+         counts = Arrays.copyOf(counts, capacity);
+      }
+      firsts[size] = first;
+      lasts[size] = last;
+      keys[size] = key;
+      counts[size] = count;
+      size++;
+
+      if (size * 2 > index.length) {
+         rehash();
+      }
+      return true;
+   }
+
+   /**
+    * Returns the number of segments.
+    */
+   public int size() {
+      return size;
+   }
+
+   /**
+    * Returns the first (minimum) point of segment i. This method throws
+    * IndexOutOfBoundsException if i is not in [0..size()).
+    */
+   public Point first(int i) {
+      int first = firsts[check(i)];
+      return new Point(xs[first], ys[first]);
+   }
+
+   /**
+    * Returns the last (maximum) point of segment i. This method throws
+    * IndexOutOfBoundsException if i is not in [0..size()).
+    */
+   public Point last(int i) {
+      int last = lasts[check(i)];
+      return new Point(xs[last], ys[last]);
+   }
+
+   /**
+    * Returns the exact slope key of segment i, as Point.slopeKeyTo gives it.
+    * This method throws IndexOutOfBoundsException if i is not in
+    * [0..size()).
+    */
+   public long slopeKey(int i) {
+      return keys[check(i)];
+   }
+
+   /**
+    * Returns the number of distinct points on segment i. This method throws
+    * IndexOutOfBoundsException if i is not in [0..size()).
+    */
+   public int length(int i) {
+      return counts[check(i)];
+   }
+
+   /**
+    * Builds and returns segment i as a Line, by collecting every point that
+    * lies on it. This takes time linear in the number of points. This method
+    * throws IndexOutOfBoundsException if i is not in [0..size()).
+    */
+   public Line line(int i) {
+      Point first = first(i);
+      Line line = new Line();
+      line.add(first);
+      for (int j = 0; j < xs.length; j++) {
+         long key = Point.slopeKey(xs[j] - first.x(), ys[j] - first.y());
+         if (key == keys[i]) {
+            line.add(new Point(xs[j], ys[j]));
+         }
+      }
+      return line;
+   }
+
+   /**
+    * Builds and returns every segment as a Line, in a sorted set.
+    */
+   public SortedSet<Line> toLines() {
+      SortedSet<Line> lines = new TreeSet<Line>();
+      for (int i = 0; i < size; i++) {
+         lines.add(line(i));
+      }
+      return lines;
+   }
+
+   /** Returns i if it is a valid segment index. */
+   private int check(int i) {
+      if (i < 0 || i >= size) {
+         throw new IndexOutOfBoundsException();
+      }
+      return i;
+   }
+
+   /** Doubles the segment index and reinserts every pair. */
+   private void rehash() {
+      index = new long[index.length * 2];
+      Arrays.fill(index, EMPTY);
+      int mask = index.length - 1;
+      for (int i = 0; i < size; i++) {
+         long pair = ((long) firsts[i] << 32) | lasts[i];
+         long h = pair * 0x9E3779B97F4A7C15L;
+         int slot = (int) (h ^ (h >>> 32)) & mask;
+         while (index[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+         }
+         index[slot] = pair;
+      }
+   }
+
+}
@@ -1,10 +1,14 @@
-import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.Scanner;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Extractor.java. Implements feature extraction for collinear points in
@@ -20,30 +24,33 @@ public class Extractor {
    /** raw data: all (x,y) points from source data. */
    private Point[] points;
    
+   /**
+    * raw data as coordinates: the point (xs[i], ys[i]) for each i. Built
+    * by the file and array constructors in place of points, which are made
+    * only when an engine that works on Points first needs them.
+    */
+   private int[] xs;
+   private int[] ys;
+   
    /** lines identified from raw data. */
    private SortedSet<Line> lines;
   
    /**
     * Builds an extractor based on the points in the file named by filename.
+    * The file may be text, a count followed by that many x y pairs, or the
+    * binary format of PointLoader.writeBinary; PointLoader reads either.
+    * The coordinates are kept as read, and no Point is made until an
+    * engine needs one.
     * @param filename is the name of the file.
     */
    public Extractor(String filename) {
    
       try {
       
-         Scanner scan = new Scanner(new File(filename));
-      
-         int length = scan.nextInt();
-         points = new Point[length];
-         int i = 0;
-      
-         while (scan.hasNext()) {
-            int x = scan.nextInt();
-            int y = scan.nextInt();
-            Point element = new Point(x, y);
-            points[i] = element;
-            i++;
-         }
+         PointLoader loader = PointLoader.read(filename);
+         checkQuadrant(loader.xs(), loader.ys());
+         xs = loader.xs();
+         ys = loader.ys();
       }
       catch (Exception e) {
          System.out.println("File could not be scanned");
@@ -53,6 +60,23 @@ public class Extractor {
       
    }
   
+   /**
+    * Builds an extractor based on the points (xs[i], ys[i]). This method
+    * throws IllegalArgumentException if xs and ys are null or of different
+    * lengths, or if any coordinate is negative. The arrays are copied, and
+    * no Point is made until an engine needs one.
+    * @param xs is the x coordinates of the points.
+    * @param ys is the y coordinates of the points.
+    */
+   public Extractor(int[] xs, int[] ys) {
+      if (xs == null || ys == null || xs.length != ys.length) {
+         throw new IllegalArgumentException();
+      }
+      checkQuadrant(xs, ys);
+      this.xs = xs.clone();
+      this.ys = ys.clone();
+   }
+  
    /**
     * Builds an extractor based on the points in the Collection named by pcoll. 
     *
@@ -62,6 +86,46 @@ public class Extractor {
    public Extractor(Collection<Point> pcoll) {
       points = pcoll.toArray(new Point[]{});
    }
+   
+   /**
+    * Throws IllegalArgumentException if any coordinate in xs or ys is
+    * negative, as Point would.
+    */
+   private static void checkQuadrant(int[] xs, int[] ys) {
+      for (int i = 0; i < xs.length; i++) {
+         if (xs[i] < 0 || ys[i] < 0) {
+            throw new IllegalArgumentException();
+         }
+      }
+   }
+   
+   /**
+    * Makes points from xs and ys if this extractor was built from
+    * coordinates and no engine has needed them yet.
+    */
+   private void ensurePoints() {
+      if (points == null && xs != null) {
+         points = new Point[xs.length];
+         for (int i = 0; i < xs.length; i++) {
+            points[i] = new Point(xs[i], ys[i]);
+         }
+      }
+   }
+   
+   /**
+    * Fills xs and ys from points if this extractor was built from a
+    * Collection and they have not been filled yet.
+    */
+   private void ensureCoordinates() {
+      if (xs == null && points != null) {
+         xs = new int[points.length];
+         ys = new int[points.length];
+         for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x();
+            ys[i] = points[i].y();
+         }
+      }
+   }
   
    /**
     * Returns a sorted set of all line segments of exactly four collinear
@@ -70,6 +134,7 @@ public class Extractor {
     * @return lines is all the collinear lines in the set.
     */
    public SortedSet<Line> getLinesBrute() {
+      ensurePoints();
       lines = new TreeSet<Line>();
       Iterator itr = lines.iterator();
       
@@ -101,6 +166,54 @@ public class Extractor {
       return lines;
    }
   
+   /**
+    * Returns the same set as getLinesBrute, computed exactly and with
+    * pruning, for use as a reference when testing the other methods. The
+    * slope keys from result[i] to the earlier points are computed once, as
+    * Point.slopeKeyTo gives them, and the l loop runs only when i, j, and
+    * k are collinear, so the work is about n^3 / 6 key comparisons plus one
+    * pass of the l loop per collinear triple, rather than n^4 / 24 passes
+    * that each compute three floating-point slopes.
+    * When no five points are collinear, the result is also the set that
+    * getLinesFast returns.
+    * @return lines is all the collinear lines in the set.
+    */
+   public SortedSet<Line> getLinesBrutePruned() {
+      ensurePoints();
+      lines = new TreeSet<Line>();
+      
+      Point[] result = Arrays.copyOf(points, points.length);
+      long[] keys = new long[result.length];
+      
+      for (int i = 3; i < result.length; i++) {
+         for (int m = 0; m < i; m++) {
+            keys[m] = result[i].slopeKeyTo(result[m]);
+         }
+      
+         for (int j = 2; j < i; j++) {
+            long slope1 = keys[j];
+            for (int k = 1; k < j; k++) {
+               if (keys[k] != slope1) {
+                  continue;
+               }
+               for (int l = 0; l < k; l++) {
+                  if (keys[l] == slope1) {
+                     Line heyanewline = new Line();
+                     heyanewline.add(result[i]);
+                     heyanewline.add(result[j]);
+                     heyanewline.add(result[k]);
+                     heyanewline.add(result[l]);
+                     
+                     lines.add(heyanewline);
+                  }
+               }
+            }
+         }
+      }
+      
+      return lines;
+   }
+  
    /**
     * Returns a sorted set of all line segments of at least four collinear
     * points. The line segments are maximal; that is, no sub-segments are
@@ -109,40 +222,458 @@ public class Extractor {
     * @return lines is all the collinear lines in the set.
     */
    public SortedSet<Line> getLinesFast() {
+      ensurePoints();
       lines = new TreeSet<Line>();
       Iterator itr = lines.iterator();
       
       Point[] copy = Arrays.copyOf(points, points.length);
+      double[] slopes = new double[points.length];
       
       for (int n = 0; n < points.length; n++) {
+         linesThrough(points[n], copy, slopes, false, lines);
+      }
          
+      return lines;
+   }
+   
+   /**
+    * Returns the same set as getLinesFast when no two points are equal,
+    * building each segment once instead of once from each of its points. A
+    * maximal segment is found from every point on it, so a line is built
+    * only when the anchor is the least point of the segment; the copies
+    * from its other points, which the sorted set would discard, are never
+    * made. When points repeat, the result may differ from getLinesFast: a
+    * segment that has fewer than four distinct points, reported there only
+    * because a repeated point is counted twice, is not reported here.
+    * @return lines is all the collinear lines in the set.
+    */
+   public SortedSet<Line> getLinesFastDistinct() {
+      ensurePoints();
+      lines = new TreeSet<Line>();
+      
+      Point[] copy = Arrays.copyOf(points, points.length);
+      double[] slopes = new double[points.length];
+      
+      for (int n = 0; n < points.length; n++) {
+         linesThrough(points[n], copy, slopes, true, lines);
+      }
+      
+      return lines;
+   }
+   
+   /**
+    * Returns the same set as getLinesFast, with the anchors spread across
+    * the common ForkJoinPool.
+    * @return lines is all the collinear lines in the set.
+    */
+   public SortedSet<Line> getLinesFastParallel() {
+      return getLinesFastParallel(ForkJoinPool.commonPool());
+   }
+   
+   /**
+    * Returns the same set as getLinesFast, with the anchors spread across
+    * pool. The anchors are split into ranges, and each range is scanned
+    * with its own copy of the points into its own list of lines; the lists
+    * are merged and de-duplicated into the sorted set at the end. This
+    * method throws IllegalArgumentException if pool is null.
+    * @param pool is the pool that runs the scans.
+    * @return lines is all the collinear lines in the set.
+    */
+   public SortedSet<Line> getLinesFastParallel(ForkJoinPool pool) {
+      if (pool == null) {
+         throw new IllegalArgumentException();
+      }
+      ensurePoints();
+      int leaf = Math.max(1, points.length / (pool.getParallelism() * 4));
+      lines = new TreeSet<Line>(
+         pool.invoke(new AnchorTask(points, 0, points.length, leaf)));
+      return lines;
+   }
+   
+   /**
+    * Sorts copy, which holds every point, by slope from anchor and adds to
+    * out one line for each run of at least three points that share a slope,
+    * or, if leastOnly is true, for each such run with no point less than
+    * anchor. Each slope is computed once into slopes, which is as long as
+    * copy, and the sort and scan work from those values rather than from
+    * anchor.slopeOrder, which would compute two slopes per comparison.
+    * Equal slopes always round to equal doubles, but unequal ones may too
+    * when the coordinates are large, so each run of three or more is
+    * checked exactly with anchor.isCollinear, and a run that fails is
+    * sorted by anchor.exactSlopeOrder() and split.
+    */
+   private static void linesThrough(Point anchor, Point[] copy,
+                                    double[] slopes, boolean leastOnly,
+                                    Collection<Line> out) {
+      for (int j = 0; j < copy.length; j++) {
+         slopes[j] = anchor.slopeTo(copy[j]);
+      }
+      sortBySlope(slopes, copy, 0, copy.length);
+      
+      int equalSlopes = 0;
+      
+      for (int j = 0; j < copy.length - 1; j = j + equalSlopes) {
+         equalSlopes = 0;
+         int i = 0;
+         while (j + i < copy.length && slopes[j] == slopes[j + i]) {
+            i++;
+            equalSlopes++;
+         }
+         if (equalSlopes < 3) {
+            continue;
+         }
          
-         Arrays.sort(copy, points[n].slopeOrder);
-         
-         int equalSlopes = 0;
-         
-         for (int j = 0; j < points.length - 1; j = j + equalSlopes) {
-            equalSlopes = 0;
-            int i = 0;
-            while (j + i < points.length
-               && points[n].slopeOrder.compare(copy[j], copy[j + i]) == 0) {
+         boolean exact = true;
+         for (int k = j + 1; k < j + equalSlopes && exact; k++) {
+            exact = anchor.isCollinear(copy[j], copy[k]);
+         }
+         if (exact) {
+            addRun(anchor, copy, j, j + equalSlopes, leastOnly, out);
+         }
+         else {
+            Comparator<Point> order = anchor.exactSlopeOrder();
+            Arrays.sort(copy, j, j + equalSlopes, order);
+            int from = j;
+            for (int k = j + 1; k <= j + equalSlopes; k++) {
+               if (k == j + equalSlopes
+                     || order.compare(copy[from], copy[k]) != 0) {
+                  addRun(anchor, copy, from, k, leastOnly, out);
+                  from = k;
+               }
+            }
+         }
+      }
+   }
+   
+   /**
+    * Adds to out the line through anchor and copy[from..to), which share a
+    * slope from anchor, if the run holds at least three points and, when
+    * leastOnly is true, none of them is less than anchor.
+    */
+   private static void addRun(Point anchor, Point[] copy, int from, int to,
+                              boolean leastOnly, Collection<Line> out) {
+      if (to - from < 3) {
+         return;
+      }
+      if (leastOnly) {
+         for (int k = from; k < to; k++) {
+            if (copy[k].compareTo(anchor) < 0) {
+               return;
+            }
+         }
+      }
+      Line heyanewline = new Line();
+      heyanewline.add(anchor);
+      for (int k = from; k < to; k++) {
+         heyanewline.add(copy[k]);
+      }
+      
+      out.add(heyanewline);
+   }
+   
+   /**
+    * Sorts slopes[lo..hi) in place, moving each point of copy along with its
+    * slope: three-way quicksort on a random pivot, recursing into the
+    * smaller side, with insertion sort for short ranges.
+    */
+   private static void sortBySlope(double[] slopes, Point[] copy,
+                                   int lo, int hi) {
+      while (hi - lo > 16) {
+         double pivot = slopes[lo + ThreadLocalRandom.current().nextInt(hi - lo)];
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i < gt) {
+            if (slopes[i] < pivot) {
+               swap(slopes, copy, lt++, i++);
+            }
+            else if (slopes[i] > pivot) {
+               swap(slopes, copy, i, --gt);
+            }
+            else {
                i++;
-               equalSlopes++;
             }
-            
-            if (equalSlopes > 2) {
-               Line heyanewline = new Line();
-               heyanewline.add(points[n]);
-               for (int k = 0; k < equalSlopes; k++) {
-                  heyanewline.add(copy[j + k]);
+         }
+         if (lt - lo < hi - gt) {
+            sortBySlope(slopes, copy, lo, lt);
+            lo = gt;
+         }
+         else {
+            sortBySlope(slopes, copy, gt, hi);
+            hi = lt;
+         }
+      }
+      for (int i = lo + 1; i < hi; i++) {
+         double v = slopes[i];
+         Point p = copy[i];
+         int j = i - 1;
+         while (j >= lo && slopes[j] > v) {
+            slopes[j + 1] = slopes[j];
+            copy[j + 1] = copy[j];
+            j--;
+         }
+         slopes[j + 1] = v;
+         copy[j + 1] = p;
+      }
+   }
+   
+   /** Swaps entries i and j of both slopes and copy. */
+   private static void swap(double[] slopes, Point[] copy, int i, int j) {
+      double s = slopes[i];
+      slopes[i] = slopes[j];
+      slopes[j] = s;
+      Point p = copy[i];
+      copy[i] = copy[j];
+      copy[j] = p;
+   }
+   
+   /**
+    * Scans the anchors points[lo..hi), splitting the range in half until it
+    * holds no more than leaf anchors.
+    */
+   private static final class AnchorTask extends RecursiveTask<List<Line>> {
+      private static final long serialVersionUID = 1L;
+   
+      private final Point[] points;
+      private final int lo;
+      private final int hi;
+      private final int leaf;
+   
+      AnchorTask(Point[] points, int lo, int hi, int leaf) {
+         this.points = points;
+         this.lo = lo;
+         this.hi = hi;
+         this.leaf = leaf;
+      }
+   
+      @Override
+      protected List<Line> compute() {
+         if (hi - lo > leaf) {
+            int mid = (lo + hi) >>> 1;
+            AnchorTask left = new AnchorTask(points, lo, mid, leaf);
+            left.fork();
+            List<Line> right = new AnchorTask(points, mid, hi, leaf).compute();
+            List<Line> merged = left.join();
+            merged.addAll(right);
+            return merged;
+         }
+         List<Line> local = new ArrayList<Line>();
+         Point[] copy = Arrays.copyOf(points, points.length);
+         double[] slopes = new double[points.length];
+         for (int n = lo; n < hi; n++) {
+            linesThrough(points[n], copy, slopes, false, local);
+         }
+         return local;
+      }
+   }
+   
+   /**
+    * Returns a sorted set of all line segments of at least four collinear
+    * points, the same set as getLinesFast, without sorting. The slope from
+    * each anchor to every other point is taken as an exact key from
+    * Point.slopeKeyTo, and points are grouped by key in a primitive hash
+    * table, so each anchor takes expected O(n) time. Points equal to the
+    * anchor have no slope and are skipped.
+    * @return lines is all the collinear lines in the set.
+    */
+   public SortedSet<Line> getLinesHash() {
+      ensurePoints();
+      lines = new TreeSet<Line>();
+      
+      int n = points.length;
+      long[] keys = new long[n];
+      int[] slots = new int[n];
+      DirectionTable table = new DirectionTable(n);
+      Line[] found = new Line[table.capacity()];
+      
+      for (int a = 0; a < n; a++) {
+         Point anchor = points[a];
+         table.clear();
+         
+         for (int j = 0; j < n; j++) {
+            keys[j] = anchor.slopeKeyTo(points[j]);
+            if (keys[j] != DirectionTable.EMPTY) {
+               slots[j] = table.increment(keys[j]);
+            }
+         }
+         
+         for (int j = 0; j < n; j++) {
+            if (keys[j] != DirectionTable.EMPTY && table.count(slots[j]) > 2) {
+               Line line = found[slots[j]];
+               if (line == null) {
+                  line = new Line();
+                  line.add(anchor);
+                  found[slots[j]] = line;
                }
-               
-               lines.add(heyanewline);
+               line.add(points[j]);
             }
          }
-      }
          
+         for (int j = 0; j < n; j++) {
+            if (keys[j] != DirectionTable.EMPTY && found[slots[j]] != null) {
+               lines.add(found[slots[j]]);
+               found[slots[j]] = null;
+            }
+         }
+      }
+      
       return lines;
    }
    
-}
\ No newline at end of file
+   /**
+    * Returns all line segments of at least four distinct collinear points,
+    * in compact form; these are the segments of getLinesHash when no two
+    * points are equal. Repeated points are set aside first, keeping the
+    * least index of each, so that every segment has one first and one last
+    * index and its length counts distinct points. Each anchor then groups
+    * points by slope key as getLinesHash does, but tracks only the indexes
+    * of the first and last point of each group, and a segment is recorded
+    * only the first time it is found. No Line is built, and the work is
+    * done on the coordinates, so no Point is made either.
+    * @return the collinear lines in the set, in compact form.
+    */
+   public CompactLines getLinesCompact() {
+      ensureCoordinates();
+      CompactLines compact = new CompactLines(xs, ys);
+      int[] ids = distinctIndexes();
+      int n = ids.length;
+      long[] keys = new long[n];
+      int[] slots = new int[n];
+      DirectionTable table = new DirectionTable(n);
+      int[] firsts = new int[table.capacity()];
+      int[] lasts = new int[table.capacity()];
+      Arrays.fill(firsts, -1);
+      
+      for (int a = 0; a < n; a++) {
+         int anchor = ids[a];
+         table.clear();
+         
+         for (int j = 0; j < n; j++) {
+            keys[j] = Point.slopeKey(xs[ids[j]] - xs[anchor],
+               ys[ids[j]] - ys[anchor]);
+            if (keys[j] != DirectionTable.EMPTY) {
+               slots[j] = table.increment(keys[j]);
+            }
+         }
+         
+         for (int j = 0; j < n; j++) {
+            if (keys[j] != DirectionTable.EMPTY && table.count(slots[j]) > 2) {
+               int slot = slots[j];
+               if (firsts[slot] < 0) {
+                  firsts[slot] = anchor;
+                  lasts[slot] = anchor;
+               }
+               if (less(ids[j], firsts[slot])) {
+                  firsts[slot] = ids[j];
+               }
+               if (less(lasts[slot], ids[j])) {
+                  lasts[slot] = ids[j];
+               }
+            }
+         }
+         
+         for (int j = 0; j < n; j++) {
+            if (keys[j] != DirectionTable.EMPTY && firsts[slots[j]] >= 0) {
+               int slot = slots[j];
+               compact.add(firsts[slot], lasts[slot], keys[j],
+                  table.count(slot) + 1);
+               firsts[slot] = -1;
+            }
+         }
+      }
+      
+      return compact;
+   }
+   
+   /**
+    * Returns, in increasing order, the least index of each distinct point
+    * of xs and ys. The points are told apart by their packed coordinates
+    * in a DirectionTable, which takes the place of a set.
+    */
+   private int[] distinctIndexes() {
+      int n = xs.length;
+      DirectionTable seen = new DirectionTable(n);
+      int[] ids = new int[n];
+      int count = 0;
+      for (int i = 0; i < n; i++) {
+         // both coordinates are below 2^31, so the key is never negative
+         long packed = ((long) ys[i] << 31) | xs[i];
+         if (seen.count(seen.increment(packed)) == 1) {
+            ids[count++] = i;
+         }
+      }
+      return Arrays.copyOf(ids, count);
+   }
+   
+   /**
+    * Returns true if point i comes before point j in the order of
+    * Point.compareTo: by y, then by x.
+    */
+   private boolean less(int i, int j) {
+      return ys[i] < ys[j] || (ys[i] == ys[j] && xs[i] < xs[j]);
+   }
+   
+   /**
+    * Counts points by direction key with open addressing and linear
+    * probing. Keys are never negative, so a negative key marks an empty
+    * slot.
+    */
+   static final class DirectionTable {
+   
+      /** marks an empty slot; also the key of no direction. */
+      static final long EMPTY = Point.NO_SLOPE;
+   
+      /** the most slots a table has: the largest power of two an array
+       *  can hold. */
+      static final int MAX_CAPACITY = 1 << 30;
+   
+      private final long[] keys;
+      private final int[] counts;
+      private final int mask;
+   
+      /** Creates a table that holds up to n keys at most half full. This
+       *  method throws IllegalArgumentException if n is more than half of
+       *  MAX_CAPACITY. */
+      DirectionTable(int n) {
+         if (n > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException();
+         }
+         // in long: at n = 2^29 the shift passes the int range
+         long wanted = (long) Integer.highestOneBit(Math.max(n, 1)) << 2;
+         int capacity = (int) Math.min(wanted, MAX_CAPACITY);
+         keys = new long[capacity];
+         counts = new int[capacity];
+         mask = capacity - 1;
+         clear();
+      }
+   
+      /** Returns the number of slots. */
+      int capacity() {
+         return keys.length;
+      }
+   
+      /** Empties the table. */
+      void clear() {
+         Arrays.fill(keys, EMPTY);
+         Arrays.fill(counts, 0);
+      }
+   
+      /** Adds one to the count of key and returns its slot. */
+      int increment(long key) {
+         long h = key * 0x9E3779B97F4A7C15L;
+         int slot = (int) (h ^ (h >>> 32)) & mask;
+         while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+         }
+         keys[slot] = key;
+         counts[slot]++;
+         return slot;
+      }
+   
+      /** Returns the count held in slot. */
+      int count(int slot) {
+         return counts[slot];
+      }
+   }
+   
+}
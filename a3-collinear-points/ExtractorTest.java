@@ -0,0 +1,258 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ExtractorTest {
+
+   /** trials per test. */
+   private static final int TRIALS = 200;
+
+   private Random random;
+   private ForkJoinPool pool;
+
+
+   /** Fixture initialization (common initialization
+    *  for all tests). **/
+   @Before public void setUp() {
+      random = new Random(2210);
+      pool = new ForkJoinPool(3);
+   }
+
+
+   /** Fixture cleanup: stops the pool's worker threads. **/
+   @After public void tearDown() {
+      pool.shutdown();
+   }
+
+
+   /** Every engine finds the segments getLinesBrutePruned implies, on
+    *  distinct points. **/
+   @Test public void distinctPointsTest() {
+      for (int t = 0; t < TRIALS; t++) {
+         List<Point> points = cloud(4 + random.nextInt(60),
+            4 + random.nextInt(16));
+         Extractor e = new Extractor(points);
+         SortedSet<Line> reference = maximal(e.getLinesBrutePruned());
+         String expected = reference.toString();
+         String trial = "trial " + t;
+
+         assertEquals(trial, expected, e.getLinesFast().toString());
+         assertEquals(trial, expected, e.getLinesFastDistinct().toString());
+         assertEquals(trial, expected,
+            e.getLinesFastParallel(pool).toString());
+         assertEquals(trial, expected, e.getLinesHash().toString());
+         assertCompact(trial, reference, e.getLinesCompact());
+         assertEquals(trial, expected, incremental(points).toString());
+         
+         int[] xs = new int[points.size()];
+         int[] ys = new int[points.size()];
+         for (int i = 0; i < xs.length; i++) {
+            xs[i] = points.get(i).x();
+            ys[i] = points.get(i).y();
+         }
+         Extractor fromArrays = new Extractor(xs, ys);
+         assertCompact(trial, reference, fromArrays.getLinesCompact());
+         assertEquals(trial, expected, fromArrays.getLinesFast().toString());
+      }
+   }
+
+
+   /** With repeated points, every engine finds the same segments of at
+    *  least four distinct points as getLinesBrutePruned implies. **/
+   @Test public void repeatedPointsTest() {
+      for (int t = 0; t < TRIALS; t++) {
+         List<Point> points = cloud(4 + random.nextInt(50),
+            4 + random.nextInt(16));
+         int copies = 1 + random.nextInt(8);
+         for (int i = 0; i < copies; i++) {
+            points.add(points.get(random.nextInt(points.size())));
+         }
+         Collections.shuffle(points, random);
+         Extractor e = new Extractor(points);
+         SortedSet<Line> reference =
+            atLeastFour(maximal(e.getLinesBrutePruned()));
+         String expected = reference.toString();
+         String trial = "trial " + t;
+
+         String fast = e.getLinesFast().toString();
+         assertEquals(trial, expected,
+            atLeastFour(e.getLinesFast()).toString());
+         assertEquals(trial, fast, e.getLinesFastParallel(pool).toString());
+         assertEquals(trial, expected,
+            atLeastFour(e.getLinesHash()).toString());
+         assertCompact(trial, reference, e.getLinesCompact());
+         assertEquals(trial, expected,
+            atLeastFour(incremental(points)).toString());
+      }
+   }
+
+
+   /** getLinesCompact holds a segment once however often its points
+    *  repeat, and counts its distinct points. **/
+   @Test public void compactRepeatedPointsTest() {
+      List<Point> points = new ArrayList<Point>();
+      for (int i = 0; i < 4; i++) {
+         points.add(new Point(i, i));
+      }
+      points.add(new Point(0, 0));
+      points.add(new Point(3, 3));
+      CompactLines compact = new Extractor(points).getLinesCompact();
+      assertEquals(1, compact.size());
+      assertEquals(4, compact.length(0));
+      assertEquals(new Point(0, 0), compact.first(0));
+      assertEquals(new Point(3, 3), compact.last(0));
+   }
+
+
+   /** IncrementalExtractor matches getLinesBrutePruned after removals. **/
+   @Test public void incrementalRemoveTest() {
+      for (int t = 0; t < TRIALS; t++) {
+         List<Point> points = cloud(4 + random.nextInt(60),
+            4 + random.nextInt(12));
+         IncrementalExtractor inc = new IncrementalExtractor();
+         for (Point p : points) {
+            inc.add(p);
+         }
+         int removals = random.nextInt(points.size());
+         for (int i = 0; i < removals; i++) {
+            assertTrue(inc.remove(points.remove(points.size() - 1)));
+         }
+         String expected =
+            maximal(new Extractor(points).getLinesBrutePruned()).toString();
+         assertEquals("trial " + t, expected, inc.getLines().toString());
+      }
+   }
+
+
+   /** getLinesBrutePruned finds what getLinesBrute finds, repeated points
+    *  and all. **/
+   @Test public void brutePrunedTest() {
+      for (int t = 0; t < TRIALS; t++) {
+         List<Point> points = cloud(4 + random.nextInt(20),
+            3 + random.nextInt(6));
+         if (random.nextBoolean()) {
+            points.add(points.get(random.nextInt(points.size())));
+         }
+         Extractor e = new Extractor(points);
+         assertEquals("trial " + t, e.getLinesBrute().toString(),
+            e.getLinesBrutePruned().toString());
+      }
+   }
+
+
+   /** The engines stay exact on coordinates near the int limit. **/
+   @Test public void largeCoordinatesTest() {
+      for (int t = 0; t < TRIALS / 4; t++) {
+         int span = 4 + random.nextInt(12);
+         int scaleX = Integer.MAX_VALUE / span - random.nextInt(1000);
+         int scaleY = Integer.MAX_VALUE / span - random.nextInt(1000);
+         List<Point> points = new ArrayList<Point>();
+         for (Point p : cloud(4 + random.nextInt(40), span)) {
+            points.add(new Point(p.x() * scaleX, p.y() * scaleY));
+         }
+         Extractor e = new Extractor(points);
+         SortedSet<Line> reference = maximal(e.getLinesBrutePruned());
+         String expected = reference.toString();
+         String trial = "trial " + t;
+
+         assertEquals(trial, expected, e.getLinesFast().toString());
+         assertEquals(trial, expected, e.getLinesHash().toString());
+         assertCompact(trial, reference, e.getLinesCompact());
+      }
+   }
+
+
+   /** A DirectionTable too large to keep half full is refused before
+    *  its capacity can overflow. **/
+   @Test(expected = IllegalArgumentException.class)
+   public void directionTableLimitTest() {
+      new Extractor.DirectionTable(Extractor.DirectionTable.MAX_CAPACITY / 2
+         + 1);
+   }
+
+
+   /** Returns n distinct random points on a span by span grid, shuffled.
+    *  n is at most span * span. **/
+   private List<Point> cloud(int n, int span) {
+      n = Math.min(n, span * span);
+      TreeSet<Point> distinct = new TreeSet<Point>();
+      while (distinct.size() < n) {
+         distinct.add(new Point(random.nextInt(span), random.nextInt(span)));
+      }
+      List<Point> points = new ArrayList<Point>(distinct);
+      Collections.shuffle(points, random);
+      return points;
+   }
+
+
+   /** Returns the lines IncrementalExtractor holds after adding points. **/
+   private static SortedSet<Line> incremental(List<Point> points) {
+      IncrementalExtractor inc = new IncrementalExtractor();
+      for (Point p : points) {
+         inc.add(p);
+      }
+      return inc.getLines();
+   }
+
+
+   /** Merges the four-point lines of getLinesBrutePruned that lie on one
+    *  line into the maximal segment. **/
+   private static SortedSet<Line> maximal(SortedSet<Line> quads) {
+      Map<String, Line> segments = new HashMap<String, Line>();
+      for (Line quad : quads) {
+         if (quad.length() < 2) {
+            continue;
+         }
+         Point a = quad.first();
+         long key = a.slopeKeyTo(quad.last());
+         long dx = key >>> 32;
+         long dy = (int) key;
+         String name = key + " " + (dy * a.x() - dx * a.y());
+         Line segment = segments.get(name);
+         if (segment == null) {
+            segment = new Line();
+            segments.put(name, segment);
+         }
+         for (Point p : quad) {
+            segment.add(p);
+         }
+      }
+      return new TreeSet<Line>(segments.values());
+   }
+
+
+   /** Returns the lines of at least four distinct points. **/
+   private static SortedSet<Line> atLeastFour(SortedSet<Line> lines) {
+      SortedSet<Line> kept = new TreeSet<Line>();
+      for (Line line : lines) {
+         if (line.length() >= 4) {
+            kept.add(line);
+         }
+      }
+      return kept;
+   }
+
+
+   /** Asserts that compact holds each line of expected exactly once, with
+    *  its number of distinct points as its length. **/
+   private static void assertCompact(String trial, SortedSet<Line> expected,
+                                     CompactLines compact) {
+      assertEquals(trial, expected.toString(), compact.toLines().toString());
+      assertEquals(trial, expected.size(), compact.size());
+      for (int i = 0; i < compact.size(); i++) {
+         assertEquals(trial, compact.line(i).length(), compact.length(i));
+      }
+   }
+}
@@ -0,0 +1,218 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * IncrementalExtractor.java. Keeps the line segments of at least four
+ * collinear points up to date as points are added and removed one at a
+ * time. Only segments through the changed point can change, so each update
+ * groups the other points by their exact slope key from that point, in a
+ * primitive hash table, and touches only the groups of three or more. An
+ * update takes expected O(n) time plus the cost of building the Lines
+ * that change, rather than the O(n^2 log n) of running Extractor again.
+ *
+ * The current segments are indexed by the line they lie on, which is
+ * named by its slope key and the value dy * x - dx * y shared by every
+ * point (x, y) on it. The points form a set; a point equal to one already
+ * held is not added again.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public class IncrementalExtractor {
+
+   /** the points, in no particular order. */
+   private final List<Point> points = new ArrayList<Point>();
+
+   /** the index in points of each point, by packed coordinates. */
+   private final Map<Long, Integer> positions = new HashMap<Long, Integer>();
+
+   /** the current segments, by the line they lie on. */
+   private final Map<LineKey, Line> index = new HashMap<LineKey, Line>();
+
+   /** scratch space for one update, grown with the points. */
+   private Extractor.DirectionTable table = new Extractor.DirectionTable(16);
+   private long[] keys = new long[16];
+   private int[] slots = new int[16];
+   private Line[] found = new Line[table.capacity()];
+
+   /**
+    * Creates an extractor with no points.
+    */
+   public IncrementalExtractor() {
+   }
+
+   /**
+    * Adds p and returns the segments the addition creates or extends, each
+    * as it now stands. Returns an empty list if p forms no segment or is
+    * already held. This method throws IllegalArgumentException if p is
+    * null.
+    */
+   public List<Line> add(Point p) {
+      if (p == null) {
+         throw new IllegalArgumentException();
+      }
+      List<Line> changed = new ArrayList<Line>();
+      if (positions.containsKey(pack(p))) {
+         return changed;
+      }
+
+      group(p);
+      int n = points.size();
+      for (int j = 0; j < n; j++) {
+         if (table.count(slots[j]) > 2) {
+            Line line = found[slots[j]];
+            if (line == null) {
+               line = new Line();
+               line.add(p);
+               found[slots[j]] = line;
+               changed.add(line);
+            }
+            line.add(points.get(j));
+         }
+      }
+      for (int j = 0; j < n; j++) {
+         Line line = found[slots[j]];
+         if (line != null) {
+            index.put(new LineKey(p, keys[j]), line);
+            found[slots[j]] = null;
+         }
+      }
+
+      positions.put(pack(p), n);
+      points.add(p);
+      return changed;
+   }
+
+   /**
+    * Removes p, shortening or dropping the segments through it. Returns
+    * true if p was held. This method throws IllegalArgumentException if p
+    * is null.
+    */
+   public boolean remove(Point p) {
+      if (p == null) {
+         throw new IllegalArgumentException();
+      }
+      Integer at = positions.remove(pack(p));
+      if (at == null) {
+         return false;
+      }
+      Point moved = points.remove(points.size() - 1);
+      if (at < points.size()) {
+         points.set(at, moved);
+         positions.put(pack(moved), at);
+      }
+
+      group(p);
+      int n = points.size();
+      for (int j = 0; j < n; j++) {
+         int count = table.count(slots[j]);
+         if (count > 3) {
+            Line line = found[slots[j]];
+            if (line == null) {
+               line = new Line();
+               found[slots[j]] = line;
+            }
+            line.add(points.get(j));
+         }
+         else if (count == 3) {
+            index.remove(new LineKey(p, keys[j]));
+         }
+      }
+      for (int j = 0; j < n; j++) {
+         Line line = found[slots[j]];
+         if (line != null) {
+            index.put(new LineKey(p, keys[j]), line);
+            found[slots[j]] = null;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns true if a point equal to p is held.
+    */
+   public boolean contains(Point p) {
+      return p != null && positions.containsKey(pack(p));
+   }
+
+   /**
+    * Returns the number of points held.
+    */
+   public int size() {
+      return points.size();
+   }
+
+   /**
+    * Returns a sorted set of all current line segments of at least four
+    * collinear points, the same set Extractor.getLinesHash would return
+    * for the points held.
+    */
+   public SortedSet<Line> getLines() {
+      return new TreeSet<Line>(index.values());
+   }
+
+   /**
+    * Fills keys and slots with the slope key from p to each held point and
+    * its slot in table, which then counts the held points in each direction
+    * from p. No held point is equal to p.
+    */
+   private void group(Point p) {
+      int n = points.size();
+      if (n > keys.length) {
+         int capacity = Math.max(n, keys.length * 2);
+         keys = new long[capacity];
+         slots = new int[capacity];
+         table = new Extractor.DirectionTable(capacity);
+         found = new Line[table.capacity()];
+      }
+      table.clear();
+      for (int j = 0; j < n; j++) {
+         keys[j] = p.slopeKeyTo(points.get(j));
+         slots[j] = table.increment(keys[j]);
+      }
+   }
+
+   /** Returns the coordinates of p packed into a long. */
+   private static Long pack(Point p) {
+      return ((long) p.x() << 32) | p.y();
+   }
+
+   /**
+    * Names the line through a point in a direction by the direction's
+    * slope key and the value dy * x - dx * y, which is the same for every
+    * point (x, y) on the line.
+    */
+   private static final class LineKey {
+      private final long slope;
+      private final long offset;
+
+      /** Names the line through p whose slope key is slope. */
+      LineKey(Point p, long slope) {
+         long dx = (int) (slope >>> 32);
+         long dy = (int) slope;
+         this.slope = slope;
+         this.offset = dy * p.x() - dx * p.y();
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+         if (!(obj instanceof LineKey)) {
+            return false;
+         }
+         LineKey that = (LineKey) obj;
+         return slope == that.slope && offset == that.offset;
+      }
+
+      @Override
+      public int hashCode() {
+         return Long.hashCode(slope * 31 + offset);
+      }
+   }
+
+}
@@ -54,7 +54,7 @@ public class Line implements Comparable<Line>, Iterable<Point> {
          return true;
       }
      
-      if(line.first().slopeTo(p)==line.last().slopeTo(p)){
+      if(line.first().isCollinear(line.last(), p)){
          line.add(p);
          return true;
       }
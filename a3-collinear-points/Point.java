@@ -16,6 +16,9 @@ public final class Point implements Comparable<Point> {
   /** Compare two points with respect to the slope each makes with this point. */
    public final Comparator<Point> slopeOrder = new ComparePointsBySlope();
 
+   /** The slope key of a degenerate line segment. */
+   public static final long NO_SLOPE = -1L;
+
    /** x,y coordinates of this point. */
    private final int x;
    private final int y;
@@ -33,6 +36,20 @@ public final class Point implements Comparable<Point> {
       }
    }
 
+   /**
+    * Returns the x coordinate of this point.
+    */
+   int x() {
+      return x;
+   }
+
+   /**
+    * Returns the y coordinate of this point.
+    */
+   int y() {
+      return y;
+   }
+
    /** 
     * Return a string representation of this point.
     * 
@@ -108,6 +125,73 @@ public final class Point implements Comparable<Point> {
       return slope;
    }
       
+   /**
+    * Returns an exact key for the slope of the line segment between this
+    * point and the specified point. The difference (dx, dy) is reduced to
+    * lowest terms, its sign is chosen so that dx > 0, or dy > 0 when dx is
+    * 0, and the pair is packed into a long. Two segments from this point
+    * have equal keys if and only if their slopes are equal, whatever the
+    * size of the coordinates. Keys are never negative, except NO_SLOPE for
+    * a degenerate line segment. Keys do not follow slope order; see
+    * exactSlopeOrder() for that.
+    */
+   public long slopeKeyTo(Point that) {
+      return slopeKey(that.x - this.x, that.y - this.y);
+   }
+
+   /**
+    * Returns the slope key, as slopeKeyTo gives it, of a line segment whose
+    * second point is dx to the right of and dy above its first, for use on
+    * coordinates that are not held in Points.
+    */
+   static long slopeKey(int dx, int dy) {
+      if (dx == 0 && dy == 0) {
+         return NO_SLOPE;
+      }
+      int g = gcd(Math.abs(dx), Math.abs(dy));
+      dx /= g;
+      dy /= g;
+      if (dx < 0 || (dx == 0 && dy < 0)) {
+         dx = -dx;
+         dy = -dy;
+      }
+      return ((long) dx << 32) | (dy & 0xFFFFFFFFL);
+   }
+
+   /**
+    * Returns a comparator of two points with respect to the slope each makes
+    * with this point, exactly, in integer arithmetic. A new comparator is
+    * made on each call rather than held in a field, so a Point carries no
+    * more than its slopeOrder.
+    */
+   public Comparator<Point> exactSlopeOrder() {
+      return new ComparePointsByExactSlope();
+   }
+
+   /**
+    * Returns true if this point and the specified points p and q lie on one
+    * line. The test is exact: the cross product of (p - this) and
+    * (q - this) is computed in long arithmetic, which cannot overflow for
+    * int coordinates in Quadrant I.
+    */
+   public boolean isCollinear(Point p, Point q) {
+      long cross = (long) (p.x - x) * (q.y - y) - (long) (p.y - y) * (q.x - x);
+      return cross == 0;
+   }
+
+   /**
+    * Returns the greatest common divisor of a and b, which are not negative
+    * and not both zero.
+    */
+   private static int gcd(int a, int b) {
+      while (b != 0) {
+         int t = a % b;
+         a = b;
+         b = t;
+      }
+      return a;
+   }
+
    /**
     * Defines a total order for Points based on the slope that two specified points
     * make with this point.
@@ -136,4 +220,51 @@ public final class Point implements Comparable<Point> {
    
    }
    
+   /**
+    * Defines the same order as ComparePointsBySlope, with no rounding: the
+    * slopes dy1/dx1 and dy2/dx2 are compared as dy1 * dx2 and dy2 * dx1 in
+    * long arithmetic.
+    */
+   private class ComparePointsByExactSlope implements Comparator<Point> {
+   
+      /**
+       * Compares two specified points p1 and p2 for order. Returns a negative
+       * integer, zero, or a positive integer if p1 is less than, equal to, or
+       * greater than p2. All three properties of the compare method as
+       * specified in the Comparator interface are met. 
+       */
+      @Override
+      public int compare(Point p1, Point p2) {
+         int rank1 = rank(p1);
+         int rank2 = rank(p2);
+         if (rank1 != 1 || rank2 != 1) {
+            return Integer.compare(rank1, rank2);
+         }
+         long dx1 = p1.x - x;
+         long dy1 = p1.y - y;
+         long dx2 = p2.x - x;
+         long dy2 = p2.y - y;
+         if (dx1 < 0) {
+            dx1 = -dx1;
+            dy1 = -dy1;
+         }
+         if (dx2 < 0) {
+            dx2 = -dx2;
+            dy2 = -dy2;
+         }
+         return Long.compare(dy1 * dx2, dy2 * dx1);
+      }
+   
+      /**
+       * Returns 0 for a degenerate segment from this point to p, 2 for a
+       * vertical one, and 1 for any other.
+       */
+      private int rank(Point p) {
+         if (p.x == x) {
+            return p.y == y ? 0 : 2;
+         }
+         return 1;
+      }
+   }
+   
 }
@@ -0,0 +1,265 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * PointLoader.java. Reads point files into parallel int arrays of x and y
+ * coordinates, with no Point made per pair. Two formats are read:
+ *
+ * Text, as Extractor has always read it: the number of points n, then n
+ * pairs of x and y, all decimal integers separated by whitespace. The file
+ * is memory mapped and parsed byte by byte, in chunks, by a hand-written
+ * state machine rather than Scanner.
+ *
+ * Binary, as writeBinary writes it: the four bytes 0 'P' 'T' 'S', then n,
+ * then the n x coordinates, then the n y coordinates, each a little-endian
+ * 32-bit int. The arrays are copied straight out of the mapped file. Text
+ * never starts with a 0 byte, so read tells the two apart.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 2026-10-18
+ *
+ */
+public final class PointLoader {
+
+   /** the first int of a binary file, as read little-endian. */
+   static final int MAGIC = 0x53545000;
+
+   /** the largest part of a text file mapped at once. */
+   private static final long CHUNK = 1L << 28;
+
+   /** x coordinates. */
+   private final int[] xs;
+
+   /** y coordinates. */
+   private final int[] ys;
+
+   /**
+    * Holds the points (xs[i], ys[i]).
+    */
+   private PointLoader(int[] xs, int[] ys) {
+      this.xs = xs;
+      this.ys = ys;
+   }
+
+   /**
+    * Reads the file named by filename, in either format. This method throws
+    * IOException if the file cannot be read or is not well formed.
+    */
+   public static PointLoader read(String filename) throws IOException {
+      try (FileChannel in = FileChannel.open(Paths.get(filename),
+            StandardOpenOption.READ)) {
+         ByteBuffer head = ByteBuffer.allocate(1);
+         if (in.read(head, 0) == 1 && head.get(0) == 0) {
+            return readBinary(in);
+         }
+         return readText(in);
+      }
+   }
+
+   /**
+    * Writes xs and ys to the file named by filename in the binary format.
+    * This method throws IllegalArgumentException if xs and ys are null or
+    * of different lengths, and IOException if the file cannot be written.
+    */
+   public static void writeBinary(String filename, int[] xs, int[] ys)
+         throws IOException {
+      if (xs == null || ys == null || xs.length != ys.length) {
+         throw new IllegalArgumentException();
+      }
+      Path path = Paths.get(filename);
+      try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+         ByteBuffer buffer = ByteBuffer.allocate(1 << 16)
+            .order(ByteOrder.LITTLE_ENDIAN);
+         buffer.putInt(MAGIC).putInt(xs.length);
+         for (int[] a : new int[][] {xs, ys}) {
+            for (int v : a) {
+               if (!buffer.hasRemaining()) {
+                  drain(out, buffer);
+               }
+               buffer.putInt(v);
+            }
+         }
+         drain(out, buffer);
+      }
+   }
+
+   /**
+    * Returns the number of points.
+    */
+   public int size() {
+      return xs.length;
+   }
+
+   /**
+    * Returns the x coordinates. The array is not copied.
+    */
+   public int[] xs() {
+      return xs;
+   }
+
+   /**
+    * Returns the y coordinates. The array is not copied.
+    */
+   public int[] ys() {
+      return ys;
+   }
+
+   /**
+    * Returns the points as Points. This method throws
+    * IllegalArgumentException if any coordinate is negative.
+    */
+   public Point[] toPoints() {
+      Point[] points = new Point[xs.length];
+      for (int i = 0; i < points.length; i++) {
+         points[i] = new Point(xs[i], ys[i]);
+      }
+      return points;
+   }
+
+   /**
+    * Reads a binary file whose magic number has not yet been consumed.
+    */
+   private static PointLoader readBinary(FileChannel in) throws IOException {
+      long length = in.size();
+      if (length < 8) {
+         throw new IOException("truncated header");
+      }
+      IntBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, 8)
+         .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+      int n = header.get(1);
+      if (header.get(0) != MAGIC || n < 0 || length != 8 + 8L * n) {
+         throw new IOException("not a point file");
+      }
+      int[] xs = new int[n];
+      int[] ys = new int[n];
+      for (int[] a : new int[][] {xs, ys}) {
+         long base = a == xs ? 8 : 8 + 4L * n;
+         int done = 0;
+         while (done < n) {
+            int count = (int) Math.min(n - done, CHUNK / 4);
+            in.map(FileChannel.MapMode.READ_ONLY, base + 4L * done, 4L * count)
+               .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(a, done, count);
+            done += count;
+         }
+      }
+      return new PointLoader(xs, ys);
+   }
+
+   /**
+    * Reads a text file, mapping it a chunk at a time. The parser keeps its
+    * state between chunks, so a number may straddle two of them.
+    */
+   private static PointLoader readText(FileChannel in) throws IOException {
+      TextParser parser = new TextParser();
+      long length = in.size();
+      for (long offset = 0; offset < length; offset += CHUNK) {
+         int size = (int) Math.min(CHUNK, length - offset);
+         MappedByteBuffer chunk =
+            in.map(FileChannel.MapMode.READ_ONLY, offset, size);
+         for (int i = 0; i < size; i++) {
+            parser.accept(chunk.get(i));
+         }
+      }
+      return parser.finish();
+   }
+
+   /** Writes out and empties buffer. */
+   private static void drain(FileChannel out, ByteBuffer buffer)
+         throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+         out.write(buffer);
+      }
+      buffer.clear();
+   }
+
+   /**
+    * Parses the text format one byte at a time: the point count, then
+    * alternating x and y values, separated by whitespace.
+    */
+   private static final class TextParser {
+      private int[] xs;
+      private int[] ys;
+      /** numbers read so far, including the count. */
+      private long read;
+      private long value;
+      private boolean negative;
+      private boolean inNumber;
+   
+      /** Consumes the next byte of the file. */
+      void accept(byte b) throws IOException {
+         if (b >= '0' && b <= '9') {
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+               throw new IOException("number out of range");
+            }
+            inNumber = true;
+         }
+         else if (b == '-' && !inNumber && !negative) {
+            negative = true;
+         }
+         else if (b == ' ' || b == '\n' || b == '\r' || b == '\t'
+               || b == '\f') {
+            endNumber();
+         }
+         else {
+            throw new IOException("unexpected character");
+         }
+      }
+   
+      /** Ends the input and returns the points read. */
+      PointLoader finish() throws IOException {
+         endNumber();
+         if (read == 0 || read != 1 + 2L * xs.length) {
+            throw new IOException("fewer points than declared");
+         }
+         return new PointLoader(xs, ys);
+      }
+   
+      /** Stores the number just read, if there is one. */
+      private void endNumber() throws IOException {
+         if (!inNumber) {
+            if (negative) {
+               throw new IOException("malformed number");
+            }
+            return;
+         }
+         long v = negative ? -value : value;
+         if (v > Integer.MAX_VALUE) {
+            throw new IOException("number out of range");
+         }
+         if (read == 0) {
+            if (v < 0) {
+               throw new IOException("negative point count");
+            }
+            xs = new int[(int) v];
+            ys = new int[(int) v];
+         }
+         else {
+            long pair = (read - 1) / 2;
+            if (pair >= xs.length) {
+               throw new IOException("more points than declared");
+            }
+            if ((read - 1) % 2 == 0) {
+               xs[(int) pair] = (int) v;
+            }
+            else {
+               ys[(int) pair] = (int) v;
+            }
+         }
+         read++;
+         value = 0;
+         negative = false;
+         inNumber = false;
+      }
+   }
+
+}
@@ -0,0 +1,63 @@
+package bench.a1;
+
+import bench.Inputs;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ArrayKthBench.java. Times a1 Selector.kmin and Selector.kmax with k at
+ * the first, quarter, median, and last of the distinct values.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = "--add-modules=jdk.incubator.vector",
+   jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ArrayKthBench {
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   @Param
+   public Inputs.Position position;
+
+   private int[] a;
+   private int k;
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      a = Inputs.generate(distribution, n);
+      k = Inputs.k(position, Inputs.distinct(Inputs.sorted(a)));
+   }
+
+   @Benchmark
+   public int kmin() throws Throwable {
+      return (int) SelectorHandles.KMIN.invokeExact(a, k);
+   }
+
+   @Benchmark
+   public int kmax() throws Throwable {
+      return (int) SelectorHandles.KMAX.invokeExact(a, k);
+   }
+
+}
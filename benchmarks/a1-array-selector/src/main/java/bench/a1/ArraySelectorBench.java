@@ -0,0 +1,81 @@
+package bench.a1;
+
+import bench.Inputs;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ArraySelectorBench.java. Times the a1 Selector methods that do not take
+ * a k: min, max, range, ceiling, and floor. The range covers the middle
+ * half of the values, and ceiling and floor look up the median value.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = "--add-modules=jdk.incubator.vector",
+   jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ArraySelectorBench {
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   private int[] a;
+   private int low;
+   private int high;
+   private int key;
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      a = Inputs.generate(distribution, n);
+      int[] s = Inputs.sorted(a);
+      low = Inputs.valueAt(s, 0.25);
+      high = Inputs.valueAt(s, 0.75);
+      key = Inputs.valueAt(s, 0.5);
+   }
+
+   @Benchmark
+   public int min() throws Throwable {
+      return (int) SelectorHandles.MIN.invokeExact(a);
+   }
+
+   @Benchmark
+   public int max() throws Throwable {
+      return (int) SelectorHandles.MAX.invokeExact(a);
+   }
+
+   @Benchmark
+   public int[] range() throws Throwable {
+      return (int[]) SelectorHandles.RANGE.invokeExact(a, low, high);
+   }
+
+   @Benchmark
+   public int ceiling() throws Throwable {
+      return (int) SelectorHandles.CEILING.invokeExact(a, key);
+   }
+
+   @Benchmark
+   public int floor() throws Throwable {
+      return (int) SelectorHandles.FLOOR.invokeExact(a, key);
+   }
+
+}
@@ -0,0 +1,75 @@
+package bench.a1;
+
+import bench.Inputs;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ArrayWorkspaceBench.java. Times the a1 Selector overloads that reuse a
+ * SelectorWorkspace or a caller's output array. Run with -prof gc to see
+ * that they allocate nothing; ZeroAllocationTest does so and checks it.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = "--add-modules=jdk.incubator.vector",
+   jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ArrayWorkspaceBench {
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   private int[] a;
+   private int[] out;
+   private Object workspace;
+   private int k;
+   private int low;
+   private int high;
+
+   @Setup(Level.Trial)
+   public void setUp() throws Throwable {
+      a = Inputs.generate(distribution, n);
+      out = new int[n];
+      workspace = (Object) SelectorHandles.NEW_WORKSPACE.invokeExact(n);
+      int[] s = Inputs.sorted(a);
+      k = Inputs.k(Inputs.Position.MEDIAN, Inputs.distinct(s));
+      low = Inputs.valueAt(s, 0.25);
+      high = Inputs.valueAt(s, 0.75);
+   }
+
+   @Benchmark
+   public int kmin() throws Throwable {
+      return (int) SelectorHandles.KMIN_WORKSPACE.invokeExact(a, k, workspace);
+   }
+
+   @Benchmark
+   public int kmax() throws Throwable {
+      return (int) SelectorHandles.KMAX_WORKSPACE.invokeExact(a, k, workspace);
+   }
+
+   @Benchmark
+   public int range() throws Throwable {
+      return (int) SelectorHandles.RANGE_INTO.invokeExact(a, low, high, out);
+   }
+
+}
@@ -0,0 +1,87 @@
+package bench.a1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * SelectorHandles.java. Method handles on the a1 Selector. Selector lives
+ * in the unnamed package, which code in a named package cannot import, and
+ * JMH will not generate benchmarks in the unnamed package, so the
+ * benchmarks reach Selector through these constant handles instead. A
+ * static final handle called with invokeExact is inlined like a direct
+ * call.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+final class SelectorHandles {
+
+   static final MethodHandle MIN = find("min", int.class, int[].class);
+   static final MethodHandle MAX = find("max", int.class, int[].class);
+   static final MethodHandle KMIN =
+      find("kmin", int.class, int[].class, int.class);
+   static final MethodHandle KMAX =
+      find("kmax", int.class, int[].class, int.class);
+   static final MethodHandle RANGE =
+      find("range", int[].class, int[].class, int.class, int.class);
+   static final MethodHandle CEILING =
+      find("ceiling", int.class, int[].class, int.class);
+   static final MethodHandle FLOOR =
+      find("floor", int.class, int[].class, int.class);
+   static final MethodHandle RANGE_INTO = find("range", int.class,
+      int[].class, int.class, int.class, int[].class);
+
+   /** the workspace handles, with SelectorWorkspace seen as Object. */
+   static final MethodHandle NEW_WORKSPACE = workspace();
+   static final MethodHandle KMIN_WORKSPACE = find("kmin", int.class,
+      int[].class, int.class, type("SelectorWorkspace"))
+      .asType(MethodType.methodType(int.class, int[].class, int.class,
+         Object.class));
+   static final MethodHandle KMAX_WORKSPACE = find("kmax", int.class,
+      int[].class, int.class, type("SelectorWorkspace"))
+      .asType(MethodType.methodType(int.class, int[].class, int.class,
+         Object.class));
+
+   /**
+    * Can't instantiate this class.
+    */
+   private SelectorHandles() { }
+
+   /** Looks up the public static Selector method name. */
+   private static MethodHandle find(String name, Class<?> returns,
+                                    Class<?>... params) {
+      try {
+         return MethodHandles.publicLookup().findStatic(type("Selector"),
+            name, MethodType.methodType(returns, params));
+      }
+      catch (ReflectiveOperationException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   /** Looks up the SelectorWorkspace(int) constructor. */
+   private static MethodHandle workspace() {
+      try {
+         return MethodHandles.publicLookup().findConstructor(
+            type("SelectorWorkspace"),
+            MethodType.methodType(void.class, int.class))
+            .asType(MethodType.methodType(Object.class, int.class));
+      }
+      catch (ReflectiveOperationException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   /** Loads the named class from the unnamed package. */
+   private static Class<?> type(String name) {
+      try {
+         return Class.forName(name);
+      }
+      catch (ClassNotFoundException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+}
@@ -0,0 +1,53 @@
+package bench.a1;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * ZeroAllocationTest.java. Runs ArrayWorkspaceBench under the JMH gc
+ * profiler and checks that every workspace call allocates nothing. JMH
+ * reports the bytes allocated per operation as gc.alloc.rate.norm. Its own
+ * bookkeeping, spread over the operations of an iteration, adds a few
+ * bytes at most, while the smallest object is 16 bytes, so any average
+ * below 8 bytes per operation means no call allocated.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+class ZeroAllocationTest {
+
+   @Test
+   void workspaceCallsDoNotAllocate() throws Exception {
+      Options options = new OptionsBuilder()
+         .include(ArrayWorkspaceBench.class.getName())
+         .param("n", "1000", "10000")
+         .param("distribution", "UNIFORM", "DUPLICATES")
+         .addProfiler(GCProfiler.class)
+         .warmupIterations(3)
+         .warmupTime(TimeValue.milliseconds(500))
+         .measurementIterations(3)
+         .measurementTime(TimeValue.milliseconds(500))
+         .forks(1)
+         .jvmArgsAppend("-Xms512m", "-Xmx512m")
+         .build();
+      for (RunResult run : new Runner(options).run()) {
+         BenchmarkParams params = run.getParams();
+         Result alloc = run.getSecondaryResults().get("gc.alloc.rate.norm");
+         assertTrue(alloc.getScore() < 8.0, params.getBenchmark()
+            + " n=" + params.getParam("n")
+            + " " + params.getParam("distribution")
+            + " allocates " + alloc.getScore() + " B/op");
+      }
+   }
+
+}
@@ -0,0 +1,67 @@
+package bench.a2;
+
+import bench.Inputs;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CollectionKthBench.java. Times a2 Selector.kmin and Selector.kmax with k
+ * at the first, quarter, median, and last of the distinct values.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class CollectionKthBench {
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   @Param
+   public Inputs.Position position;
+
+   private Collection<Integer> coll;
+   private int k;
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      int[] a = Inputs.generate(distribution, n);
+      coll = CollectionSelectorBench.boxed(a);
+      k = Inputs.k(position, Inputs.distinct(Inputs.sorted(a)));
+   }
+
+   @Benchmark
+   public Object kmin() throws Throwable {
+      return (Object) SelectorHandles.KMIN.invokeExact(coll, k,
+         (Comparator) CollectionSelectorBench.ASCENDING);
+   }
+
+   @Benchmark
+   public Object kmax() throws Throwable {
+      return (Object) SelectorHandles.KMAX.invokeExact(coll, k,
+         (Comparator) CollectionSelectorBench.ASCENDING);
+   }
+
+}
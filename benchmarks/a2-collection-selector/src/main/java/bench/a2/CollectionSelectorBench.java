@@ -0,0 +1,101 @@
+package bench.a2;
+
+import bench.Inputs;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CollectionSelectorBench.java. Times the a2 Selector methods that do not
+ * take a k: min, max, range, ceiling, and floor, on an ArrayList of the
+ * same values the a1 benchmarks use. The range covers the middle half of
+ * the values, and ceiling and floor look up the median value.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class CollectionSelectorBench {
+
+   static final Comparator<Integer> ASCENDING = Integer::compare;
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   private Collection<Integer> coll;
+   private Object low;
+   private Object high;
+   private Object key;
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      int[] a = Inputs.generate(distribution, n);
+      coll = boxed(a);
+      int[] s = Inputs.sorted(a);
+      low = Inputs.valueAt(s, 0.25);
+      high = Inputs.valueAt(s, 0.75);
+      key = Inputs.valueAt(s, 0.5);
+   }
+
+   /** Returns a in an ArrayList. */
+   static Collection<Integer> boxed(int[] a) {
+      ArrayList<Integer> list = new ArrayList<Integer>(a.length);
+      for (int v : a) {
+         list.add(v);
+      }
+      return list;
+   }
+
+   @Benchmark
+   public Object min() throws Throwable {
+      return (Object) SelectorHandles.MIN.invokeExact(coll,
+         (Comparator) ASCENDING);
+   }
+
+   @Benchmark
+   public Object max() throws Throwable {
+      return (Object) SelectorHandles.MAX.invokeExact(coll,
+         (Comparator) ASCENDING);
+   }
+
+   @Benchmark
+   public Collection range() throws Throwable {
+      return (Collection) SelectorHandles.RANGE.invokeExact(coll, low, high,
+         (Comparator) ASCENDING);
+   }
+
+   @Benchmark
+   public Object ceiling() throws Throwable {
+      return (Object) SelectorHandles.CEILING.invokeExact(coll, key,
+         (Comparator) ASCENDING);
+   }
+
+   @Benchmark
+   public Object floor() throws Throwable {
+      return (Object) SelectorHandles.FLOOR.invokeExact(coll, key,
+         (Comparator) ASCENDING);
+   }
+
+}
@@ -0,0 +1,84 @@
+package bench.a2;
+
+import bench.Inputs;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CollectionWorkspaceBench.java. Times the a2 Selector overloads that
+ * reuse a SelectorWorkspace or a caller's output Collection. Run with
+ * -prof gc to see that they allocate nothing; ZeroAllocationTest does so
+ * and checks it.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class CollectionWorkspaceBench {
+
+   @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+   public int n;
+
+   @Param
+   public Inputs.Distribution distribution;
+
+   private Collection<Integer> coll;
+   private ArrayList<Integer> out;
+   private Object workspace;
+   private int k;
+   private Object low;
+   private Object high;
+
+   @Setup(Level.Trial)
+   public void setUp() throws Throwable {
+      int[] a = Inputs.generate(distribution, n);
+      coll = CollectionSelectorBench.boxed(a);
+      out = new ArrayList<Integer>(n);
+      workspace = (Object) SelectorHandles.NEW_WORKSPACE.invokeExact(n);
+      int[] s = Inputs.sorted(a);
+      k = Inputs.k(Inputs.Position.MEDIAN, Inputs.distinct(s));
+      low = Inputs.valueAt(s, 0.25);
+      high = Inputs.valueAt(s, 0.75);
+   }
+
+   @Benchmark
+   public Object kmin() throws Throwable {
+      return (Object) SelectorHandles.KMIN_WORKSPACE.invokeExact(coll, k,
+         (Comparator) CollectionSelectorBench.ASCENDING, workspace);
+   }
+
+   @Benchmark
+   public Object kmax() throws Throwable {
+      return (Object) SelectorHandles.KMAX_WORKSPACE.invokeExact(coll, k,
+         (Comparator) CollectionSelectorBench.ASCENDING, workspace);
+   }
+
+   @Benchmark
+   public int range() throws Throwable {
+      out.clear();
+      return (int) SelectorHandles.RANGE_INTO.invokeExact(coll, low, high,
+         (Comparator) CollectionSelectorBench.ASCENDING,
+         (Collection) out);
+   }
+
+}
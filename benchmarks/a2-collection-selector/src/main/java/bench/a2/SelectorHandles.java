@@ -0,0 +1,93 @@
+package bench.a2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * SelectorHandles.java. Method handles on the a2 Selector. Selector lives
+ * in the unnamed package, which code in a named package cannot import, and
+ * JMH will not generate benchmarks in the unnamed package, so the
+ * benchmarks reach Selector through these constant handles instead. The
+ * handles carry the erased signatures of the generic methods.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+final class SelectorHandles {
+
+   static final MethodHandle MIN =
+      find("min", Object.class, Collection.class, Comparator.class);
+   static final MethodHandle MAX =
+      find("max", Object.class, Collection.class, Comparator.class);
+   static final MethodHandle KMIN = find("kmin", Object.class,
+      Collection.class, int.class, Comparator.class);
+   static final MethodHandle KMAX = find("kmax", Object.class,
+      Collection.class, int.class, Comparator.class);
+   static final MethodHandle RANGE = find("range", Collection.class,
+      Collection.class, Object.class, Object.class, Comparator.class);
+   static final MethodHandle CEILING = find("ceiling", Object.class,
+      Collection.class, Object.class, Comparator.class);
+   static final MethodHandle FLOOR = find("floor", Object.class,
+      Collection.class, Object.class, Comparator.class);
+   static final MethodHandle RANGE_INTO = find("range", int.class,
+      Collection.class, Object.class, Object.class, Comparator.class,
+      Collection.class);
+
+   /** the workspace handles, with SelectorWorkspace seen as Object. */
+   static final MethodHandle NEW_WORKSPACE = workspace();
+   static final MethodHandle KMIN_WORKSPACE = find("kmin", Object.class,
+      Collection.class, int.class, Comparator.class,
+      type("SelectorWorkspace"))
+      .asType(MethodType.methodType(Object.class, Collection.class,
+         int.class, Comparator.class, Object.class));
+   static final MethodHandle KMAX_WORKSPACE = find("kmax", Object.class,
+      Collection.class, int.class, Comparator.class,
+      type("SelectorWorkspace"))
+      .asType(MethodType.methodType(Object.class, Collection.class,
+         int.class, Comparator.class, Object.class));
+
+   /**
+    * Can't instantiate this class.
+    */
+   private SelectorHandles() { }
+
+   /** Looks up the public static Selector method name. */
+   private static MethodHandle find(String name, Class<?> returns,
+                                    Class<?>... params) {
+      try {
+         return MethodHandles.publicLookup().findStatic(type("Selector"),
+            name, MethodType.methodType(returns, params));
+      }
+      catch (ReflectiveOperationException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   /** Looks up the SelectorWorkspace(int) constructor. */
+   private static MethodHandle workspace() {
+      try {
+         return MethodHandles.publicLookup().findConstructor(
+            type("SelectorWorkspace"),
+            MethodType.methodType(void.class, int.class))
+            .asType(MethodType.methodType(Object.class, int.class));
+      }
+      catch (ReflectiveOperationException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+   /** Loads the named class from the unnamed package. */
+   private static Class<?> type(String name) {
+      try {
+         return Class.forName(name);
+      }
+      catch (ClassNotFoundException e) {
+         throw new ExceptionInInitializerError(e);
+      }
+   }
+
+}
@@ -0,0 +1,161 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Inputs.java. Builds the int data that both Selector benchmarks run on,
+ * so the a1 and a2 numbers are measured over the same values. Every input
+ * is generated from a fixed seed and is the same from run to run.
+ *
+ * @author  Jonathan White (jcw0057@auburn.edu)
+ * @version 10/18/26
+ *
+ */
+public final class Inputs {
+
+   /** The seed used for every generated input. */
+   public static final long SEED = 0x2210L;
+
+   /**
+    * The shapes of input data.
+    */
+   public enum Distribution {
+      /** values drawn uniformly from the whole int range. */
+      UNIFORM,
+      /** values drawn uniformly from 100 values, so most repeat. */
+      DUPLICATES,
+      /** 0, 1, ..., n - 1. */
+      SORTED,
+      /** n - 1, n - 2, ..., 0. */
+      REVERSED,
+      /**
+       * Musser's median-of-3 killer, a permutation of 1..n that drives a
+       * quickselect taking the median of its first, middle, and last values
+       * as pivot toward quadratic time.
+       */
+      ADVERSARIAL
+   }
+
+   /**
+    * Where the k of a kmin or kmax query falls among the distinct values.
+    */
+   public enum Position {
+      /** k = 1. */
+      FIRST,
+      /** k = d / 4. */
+      QUARTER,
+      /** k = d / 2. */
+      MEDIAN,
+      /** k = d, the last distinct value. */
+      LAST
+   }
+
+   /**
+    * Can't instantiate this class.
+    */
+   private Inputs() { }
+
+   /**
+    * Returns n values shaped by d.
+    */
+   public static int[] generate(Distribution d, int n) {
+      int[] a = new int[n];
+      SplittableRandom random = new SplittableRandom(SEED);
+      switch (d) {
+         case UNIFORM:
+            for (int i = 0; i < n; i++) {
+               a[i] = random.nextInt();
+            }
+            break;
+         case DUPLICATES:
+            for (int i = 0; i < n; i++) {
+               a[i] = random.nextInt(100);
+            }
+            break;
+         case SORTED:
+            for (int i = 0; i < n; i++) {
+               a[i] = i;
+            }
+            break;
+         case REVERSED:
+            for (int i = 0; i < n; i++) {
+               a[i] = n - 1 - i;
+            }
+            break;
+         case ADVERSARIAL:
+            int m = n - n % 4;
+            medianOfThreeKiller(a, m);
+            for (int i = m; i < n; i++) {
+               a[i] = i + 1;
+            }
+            break;
+         default:
+            throw new IllegalArgumentException();
+      }
+      return a;
+   }
+
+   /**
+    * Returns a sorted copy of a.
+    */
+   public static int[] sorted(int[] a) {
+      int[] s = a.clone();
+      Arrays.sort(s);
+      return s;
+   }
+
+   /**
+    * Returns the number of distinct values in the sorted array s.
+    */
+   public static int distinct(int[] s) {
+      int d = s.length == 0 ? 0 : 1;
+      for (int i = 1; i < s.length; i++) {
+         if (s[i] != s[i - 1]) {
+            d++;
+         }
+      }
+      return d;
+   }
+
+   /**
+    * Returns the k that p picks out of d distinct values.
+    */
+   public static int k(Position p, int d) {
+      switch (p) {
+         case FIRST:
+            return 1;
+         case QUARTER:
+            return Math.max(1, d / 4);
+         case MEDIAN:
+            return Math.max(1, d / 2);
+         case LAST:
+            return d;
+         default:
+            throw new IllegalArgumentException();
+      }
+   }
+
+   /**
+    * Returns the value at fraction q of the way through the sorted array s.
+    */
+   public static int valueAt(int[] s, double q) {
+      return s[(int) Math.min(s.length - 1, (long) (q * s.length))];
+   }
+
+   /**
+    * Fills a[0..n), n a multiple of 4, with Musser's median-of-3 killer
+    * sequence.
+    */
+   private static void medianOfThreeKiller(int[] a, int n) {
+      int k = n / 2;
+      for (int i = 1; i <= k; i++) {
+         if (i % 2 == 1) {
+            a[i - 1] = i;
+            a[i] = k + i;
+         }
+         a[k + i - 1] = 2 * i;
+      }
+   }
+
+}
@@ -0,0 +1,24 @@
+#!/bin/sh
+# Builds the benchmarks and writes one JMH JSON result file per module to
+# baseline/<label>/, with machine.txt describing the machine and the
+# summary.md that summarize-baseline.sh makes from them. Only machine.txt
+# and summary.md are kept under version control. Any further arguments are
+# passed to JMH, for example
+#   ./run-baseline.sh 1.1 -p n=1000,1000000 -wi 1 -i 3
+set -e
+cd "$(dirname "$0")"
+label=${1:-current}
+[ $# -gt 0 ] && shift
+mvn -B -q package -DskipTests
+mkdir -p "baseline/$label"
+{
+   echo "cpus: $(getconf _NPROCESSORS_ONLN)"
+   grep -m1 'model name' /proc/cpuinfo | sed 's/.*: /cpu: /'
+   awk '/^MemTotal/ { printf "memory: %.1f GB\n", $2 / 1048576 }' /proc/meminfo
+   java -version 2>&1 | tail -1 | sed 's/^/java: /'
+} > "baseline/$label/machine.txt"
+for module in a1-array-selector a2-collection-selector; do
+   java -jar "$module/target/benchmarks.jar" \
+      -rf json -rff "baseline/$label/$module.json" "$@"
+done
+./summarize-baseline.sh "$label"
@@ -0,0 +1,49 @@
+#!/bin/sh
+# Writes baseline/<label>/summary.md from the JMH JSON files and machine.txt
+# that run-baseline.sh left in baseline/<label>/: one table per module, one
+# row per benchmark and parameters, one column per n. Needs jq.
+set -e
+cd "$(dirname "$0")"
+label=${1:-current}
+dir="baseline/$label"
+out="$dir/summary.md"
+
+{
+   echo "# Baseline $label"
+   echo
+   if [ -f "$dir/machine.txt" ]; then
+      sed 's/^/    /' "$dir/machine.txt"
+      echo
+   fi
+   for module in a1-array-selector a2-collection-selector; do
+      json="$dir/$module.json"
+      [ -f "$json" ] || continue
+      echo "## $module"
+      echo
+      jq -r '
+         def key: [(.benchmark | sub("^bench\\.[a-z0-9]+\\."; "")),
+                   .params.distribution, (.params.position // "")];
+         def cell: . * 10 | round / 10 | tostring;
+         (map(.params.n | tonumber) | unique) as $ns
+         | .[0] as $run
+         | "JMH \($run.jmhVersion), JDK \($run.jdkVersion), "
+           + "\($run.warmupIterations) x \($run.warmupTime) warmup, "
+           + "\($run.measurementIterations) x \($run.measurementTime) "
+           + "measurement, \($run.forks) fork, "
+           + "\($run.jvmArgs | join(" ")). "
+           + "Scores in \($run.primaryMetric.scoreUnit).",
+           "",
+           "| benchmark | distribution | position | "
+           + ($ns | map("n=\(.)") | join(" | ")) + " |",
+           "|---|---|---|" + ($ns | map("---:") | join("|")) + "|",
+           (group_by(key)[] | . as $g
+            | "| " + ($g[0] | key | join(" | ")) + " | "
+              + ($ns | map(. as $n
+                  | [$g[] | select((.params.n | tonumber) == $n)
+                     | .primaryMetric.score | cell] | first // "")
+                 | join(" | "))
+              + " |")' "$json"
+      echo
+   done
+} > "$out"
+echo "wrote $out"